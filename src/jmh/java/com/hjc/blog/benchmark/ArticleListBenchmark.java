@@ -0,0 +1,217 @@
+package com.hjc.blog.benchmark;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hjc.blog.cache.ArticleFeedCache;
+import com.hjc.blog.cache.ReferenceDataCache;
+import com.hjc.blog.common.result.Result;
+import com.hjc.blog.dto.ArticleQueryDto;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.entity.ArticleTag;
+import com.hjc.blog.entity.Category;
+import com.hjc.blog.entity.Tag;
+import com.hjc.blog.entity.User;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.ArticleTagMapper;
+import com.hjc.blog.mapper.CategoryMapper;
+import com.hjc.blog.mapper.TagMapper;
+import com.hjc.blog.mapper.UserMapper;
+import com.hjc.blog.service.impl.ArticleServiceImpl;
+import com.hjc.blog.vo.ArticleListVo;
+import com.hjc.blog.vo.ArticleVo;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 文章列表热点路径基准
+ * 列表组装（含分类、标签、作者补全）使用 Mapper 替身，只测量服务层自身的开销；
+ * 另测属性拷贝和列表响应的 JSON 序列化。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArticleListBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ArticleServiceImpl articleService;
+
+    private ArticleQueryDto query;
+
+    private Article article;
+
+    private Page<ArticleListVo> listPage;
+
+    private Result<Page<ArticleListVo>> listResult;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(new MybatisConfiguration(), "");
+        TableInfoHelper.initTableInfo(assistant, Article.class);
+        TableInfoHelper.initTableInfo(assistant, User.class);
+
+        List<Article> articles = LongStream.rangeClosed(1, pageSize).mapToObj(this::article).toList();
+        List<ArticleTag> articleTags = new ArrayList<>();
+        for (Article a : articles) {
+            for (long tagId = 1; tagId <= 3; tagId++) {
+                ArticleTag articleTag = new ArticleTag();
+                articleTag.setArticleId(a.getId());
+                articleTag.setTagId((a.getId() + tagId) % 20 + 1);
+                articleTags.add(articleTag);
+            }
+        }
+
+        ArticleMapper articleMapper = StandIns.mapper(ArticleMapper.class, Map.of(
+                "selectPage", args -> {
+                    Page<Article> page = (Page<Article>) args[0];
+                    page.setRecords(articles);
+                    page.setTotal(1000);
+                    return page;
+                }
+        ));
+        ArticleTagMapper articleTagMapper = StandIns.mapper(ArticleTagMapper.class, Map.of(
+                "selectByArticleIds", args -> articleTags
+        ));
+        CategoryMapper categoryMapper = StandIns.mapper(CategoryMapper.class, Map.of(
+                "selectByIds", args -> ids(args[0]).stream().map(id -> {
+                    Category category = new Category();
+                    category.setId(id);
+                    category.setName("分类" + id);
+                    return category;
+                }).toList()
+        ));
+        TagMapper tagMapper = StandIns.mapper(TagMapper.class, Map.of(
+                "selectByIds", args -> ids(args[0]).stream().map(id -> {
+                    Tag tag = new Tag();
+                    tag.setId(id);
+                    tag.setName("标签" + id);
+                    return tag;
+                }).toList()
+        ));
+        UserMapper userMapper = StandIns.mapper(UserMapper.class, Map.of(
+                "selectList", args -> LongStream.rangeClosed(1, 5).mapToObj(id -> {
+                    User user = new User();
+                    user.setId(id);
+                    user.setUsername("user" + id);
+                    user.setNickname("作者" + id);
+                    return user;
+                }).toList()
+        ));
+
+        ReferenceDataCache referenceDataCache = new ReferenceDataCache(categoryMapper, tagMapper, userMapper);
+        ReflectionTestUtils.setField(referenceDataCache, "maxSize", 10000L);
+        ReflectionTestUtils.setField(referenceDataCache, "ttl", Duration.ofMinutes(10));
+        referenceDataCache.init();
+
+        // 关闭首页快照，每次都走完整的列表组装
+        ArticleFeedCache articleFeedCache = new ArticleFeedCache();
+        ReflectionTestUtils.setField(articleFeedCache, "maxPages", 0);
+        ReflectionTestUtils.setField(articleFeedCache, "maxSize", 1L);
+        ReflectionTestUtils.setField(articleFeedCache, "ttl", Duration.ofMinutes(1));
+        articleFeedCache.init();
+
+        articleService = new ArticleServiceImpl();
+        ReflectionTestUtils.setField(articleService, "baseMapper", articleMapper);
+        ReflectionTestUtils.setField(articleService, "articleTagMapper", articleTagMapper);
+        ReflectionTestUtils.setField(articleService, "referenceDataCache", referenceDataCache);
+        ReflectionTestUtils.setField(articleService, "articleFeedCache", articleFeedCache);
+
+        query = new ArticleQueryDto();
+        query.setPageSize(pageSize);
+
+        article = article(1L);
+        article.setContent("# 标题\n\n正文".repeat(200));
+        article.setContentHtml("<h1>标题</h1><p>正文</p>".repeat(200));
+
+        listPage = articleService.listArticles(query, null);
+        listResult = Result.success(listPage);
+
+        // 与 application.yml 中 spring.jackson 的配置一致
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT+8"));
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .timeZone(TimeZone.getTimeZone("GMT+8"))
+                .dateFormat(dateFormat)
+                .build();
+    }
+
+    /**
+     * 列表组装：分页查询（替身）+ 分类、标签、作者批量补全
+     */
+    @Benchmark
+    public Page<ArticleListVo> listArticles() {
+        return articleService.listArticles(query, null);
+    }
+
+    @Benchmark
+    public ArticleListVo copyToListVo() {
+        ArticleListVo vo = new ArticleListVo();
+        BeanUtils.copyProperties(article, vo);
+        return vo;
+    }
+
+    @Benchmark
+    public ArticleVo copyToDetailVo() {
+        ArticleVo vo = new ArticleVo();
+        BeanUtils.copyProperties(article, vo);
+        return vo;
+    }
+
+    @Benchmark
+    public byte[] serializeListResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listResult);
+    }
+
+    private Article article(long id) {
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle("文章标题" + id);
+        article.setSummary("这是文章" + id + "的摘要，用于列表展示。");
+        article.setCoverImage("https://example.com/cover/" + id + ".png");
+        article.setCategoryId(id % 4 + 1);
+        article.setAuthorId(id % 5 + 1);
+        article.setViewCount(1000);
+        article.setLikeCount(100);
+        article.setCommentCount(10);
+        article.setCollectCount(20);
+        article.setIsTop(0);
+        article.setIsFeatured(0);
+        article.setIsOriginal(1);
+        article.setStatus(1);
+        article.setPublishTime(LocalDateTime.of(2024, 5, 1, 12, 0));
+        article.setCreateTime(LocalDateTime.of(2024, 5, 1, 12, 0));
+        return article;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Long> ids(Object arg) {
+        return (Collection<Long>) arg;
+    }
+}
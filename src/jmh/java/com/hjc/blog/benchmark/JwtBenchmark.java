@@ -0,0 +1,68 @@
+package com.hjc.blog.benchmark;
+
+import com.hjc.blog.common.utils.JwtUtil;
+import com.hjc.blog.security.jwt.JwtClaims;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 认证热点路径基准：签发 Token、验签解析（无缓存 / 命中缓存）、BCrypt 密码校验
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+
+    private String token;
+
+    private BCryptPasswordEncoder passwordEncoder;
+
+    private String passwordHash;
+
+    @Setup
+    public void setUp() {
+        // HS512 要求密钥不少于 64 字节
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "benchmark-secret-key-for-jwt-hs512-signing-must-be-at-least-64-bytes-long");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 604800000L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 10000L);
+        jwtUtil.init();
+        token = jwtUtil.generateToken(1L, "admin", "ROLE_ADMIN");
+
+        // 与 SecurityConfig 中的编码器一致（默认强度 10）
+        passwordEncoder = new BCryptPasswordEncoder();
+        passwordHash = passwordEncoder.encode("123456");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(1L, "admin", "ROLE_ADMIN");
+    }
+
+    @Benchmark
+    public Claims getClaimsFromToken() {
+        return jwtUtil.getClaimsFromToken(token);
+    }
+
+    @Benchmark
+    public JwtClaims parseCached() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public boolean passwordMatches() {
+        return passwordEncoder.matches("123456", passwordHash);
+    }
+}
@@ -0,0 +1,45 @@
+package com.hjc.blog.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 基准测试用的 Mapper 替身
+ * 用 JDK 动态代理按方法名返回固定数据，避免 Mock 框架的记录开销混入测量结果；
+ * 未指定的默认方法走接口自身实现，其余方法直接报错，便于发现被测路径的变化。
+ */
+final class StandIns {
+
+    private StandIns() {
+    }
+
+    /**
+     * 创建 Mapper 替身
+     *
+     * @param type     Mapper 接口
+     * @param handlers 方法名 -> 返回值计算
+     * @return 替身
+     */
+    static <T> T mapper(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Function<Object[], Object> fn = handlers.get(method.getName());
+            if (fn != null) {
+                return fn.apply(args);
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "StandIn";
+                };
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
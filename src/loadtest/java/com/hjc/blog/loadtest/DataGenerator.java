@@ -0,0 +1,180 @@
+package com.hjc.blog.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 合成数据生成器
+ * 按配置规模批量写入用户、分类、标签、文章及文章标签关联，随机数种子固定，同样的参数生成同样的数据。
+ * 所有用户的密码均为 {@link #PASSWORD}。
+ */
+final class DataGenerator {
+
+    /**
+     * 合成用户的登录密码
+     */
+    static final String PASSWORD = "loadtest123";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final LoadTestConfig config;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    DataGenerator(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * 写入全部合成数据
+     *
+     * @param connection 数据库连接
+     */
+    void generate(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            long start = System.currentTimeMillis();
+            insertUsers(connection);
+            insertCategories(connection);
+            insertTags(connection);
+            insertArticles(connection);
+            restartIdentities(connection);
+            connection.commit();
+            System.out.printf("合成数据生成完成：用户 %d，分类 %d，标签 %d，文章 %d，每篇 %d 个标签，耗时 %d ms%n",
+                    config.users(), config.categories(), config.tags(), config.articles(), config.tagsPerArticle(),
+                    System.currentTimeMillis() - start);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void insertUsers(Connection connection) throws SQLException {
+        // BCrypt 编码很慢，所有用户共用一个哈希
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        String sql = "INSERT INTO `user` (id, username, password, nickname, email, avatar, status, role) VALUES (?, ?, ?, ?, ?, ?, 1, 'USER')";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long id = 1; id <= config.users(); id++) {
+                ps.setLong(1, id);
+                ps.setString(2, "user" + id);
+                ps.setString(3, hash);
+                ps.setString(4, "用户" + id);
+                ps.setString(5, "user" + id + "@loadtest.local");
+                ps.setString(6, "https://example.com/avatar/" + id + ".png");
+                addBatch(ps, id);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertCategories(Connection connection) throws SQLException {
+        String sql = "INSERT INTO category (id, name, description, sort, status) VALUES (?, ?, ?, ?, 1)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long id = 1; id <= config.categories(); id++) {
+                ps.setLong(1, id);
+                ps.setString(2, "分类" + id);
+                ps.setString(3, "合成分类 " + id);
+                ps.setInt(4, (int) id);
+                addBatch(ps, id);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertTags(Connection connection) throws SQLException {
+        String sql = "INSERT INTO tag (id, name, color, status) VALUES (?, ?, ?, 1)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long id = 1; id <= config.tags(); id++) {
+                ps.setLong(1, id);
+                ps.setString(2, "标签" + id);
+                ps.setString(3, String.format("#%06x", random.nextInt(0x1000000)));
+                addBatch(ps, id);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertArticles(Connection connection) throws SQLException {
+        String articleSql = "INSERT INTO article (id, title, summary, cover_image, content, content_html, category_id, author_id, "
+                + "view_count, like_count, comment_count, collect_count, is_top, is_featured, status, publish_time, create_time) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1, ?, ?)";
+        String tagSql = "INSERT INTO article_tag (article_id, tag_id) VALUES (?, ?)";
+        String content = "## 小节\n\n" + "合成正文，用于压测文章详情接口。".repeat(20) + "\n\n";
+        String contentHtml = "<h2>小节</h2>\n<p>" + "合成正文，用于压测文章详情接口。".repeat(20) + "</p>\n";
+        LocalDateTime now = LocalDateTime.now();
+        long spanMinutes = config.days() * 24L * 60;
+
+        try (PreparedStatement article = connection.prepareStatement(articleSql);
+             PreparedStatement articleTag = connection.prepareStatement(tagSql)) {
+            for (long id = 1; id <= config.articles(); id++) {
+                // 主键越大发布越晚，贴近真实的自增写入顺序
+                Timestamp time = Timestamp.valueOf(now.minusMinutes(spanMinutes - spanMinutes * id / config.articles()));
+                article.setLong(1, id);
+                article.setString(2, "合成文章标题 " + id);
+                article.setString(3, "这是第 " + id + " 篇合成文章的摘要。");
+                article.setString(4, "https://example.com/cover/" + id + ".png");
+                article.setString(5, content.repeat(3));
+                article.setString(6, contentHtml.repeat(3));
+                article.setLong(7, 1 + random.nextLong(config.categories()));
+                article.setLong(8, 1 + random.nextLong(config.users()));
+                article.setInt(9, random.nextInt(10000));
+                article.setInt(10, random.nextInt(500));
+                article.setInt(11, random.nextInt(100));
+                article.setInt(12, random.nextInt(200));
+                article.setInt(13, random.nextInt(1000) == 0 ? 1 : 0);
+                article.setInt(14, random.nextInt(50) == 0 ? 1 : 0);
+                article.setTimestamp(15, time);
+                article.setTimestamp(16, time);
+                addBatch(article, id);
+
+                // 连续取标签，保证同一篇文章内不重复
+                long firstTag = random.nextLong(config.tags());
+                for (int i = 0; i < config.tagsPerArticle(); i++) {
+                    articleTag.setLong(1, id);
+                    articleTag.setLong(2, (firstTag + i) % config.tags() + 1);
+                    articleTag.addBatch();
+                }
+                if (id % BATCH_SIZE == 0) {
+                    articleTag.executeBatch();
+                    connection.commit();
+                }
+                if (id % 100_000 == 0) {
+                    System.out.printf("已生成文章 %d / %d%n", id, config.articles());
+                }
+            }
+            article.executeBatch();
+            articleTag.executeBatch();
+        }
+    }
+
+    /**
+     * 显式写入主键不会推进 H2 的自增序列，生成后重置，避免应用插入时主键冲突
+     */
+    private void restartIdentities(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[]{"`user`", "category", "tag", "article"}) {
+                long next;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                    rs.next();
+                    next = rs.getLong(1);
+                }
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            }
+        }
+    }
+
+    private void addBatch(PreparedStatement ps, long id) throws SQLException {
+        ps.addBatch();
+        if (id % BATCH_SIZE == 0) {
+            ps.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.hjc.blog.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 按接口记录请求延迟和错误数，压测结束后输出吞吐量与延迟分位数
+ */
+final class LatencyRecorder {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Series> series = new LinkedHashMap<>();
+
+    LatencyRecorder(Iterable<String> endpoints) {
+        endpoints.forEach(endpoint -> series.put(endpoint, new Series()));
+    }
+
+    /**
+     * 记录一次请求
+     *
+     * @param endpoint     接口名
+     * @param latencyNanos 延迟，fixed 模式下从计划发起时间算起
+     * @param success      HTTP 状态为 200 且业务码为成功
+     */
+    void record(String endpoint, long latencyNanos, boolean success) {
+        series.get(endpoint).add(latencyNanos, success);
+    }
+
+    /**
+     * 全部接口的请求数
+     */
+    long count() {
+        return series.values().stream().mapToLong(Series::size).sum();
+    }
+
+    /**
+     * 输出报告
+     *
+     * @param elapsedNanos 统计时长
+     */
+    String report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "接口", "请求数", "错误数", "吞吐/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        long total = 0;
+        for (Map.Entry<String, Series> entry : series.entrySet()) {
+            long[] sorted = entry.getValue().sorted();
+            long errors = entry.getValue().errors();
+            total += sorted.length;
+            sb.append(String.format("%-8s %10d %8d %10.1f", entry.getKey(), sorted.length, errors, sorted.length / seconds));
+            for (double p : PERCENTILES) {
+                sb.append(String.format(" %10.2f", millis(percentile(sorted, p))));
+            }
+            sb.append(String.format(" %10.2f%n", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1])));
+        }
+        sb.append(String.format("合计 %d 个请求，%.1f 秒，吞吐 %.1f/s%n", total, seconds, total / seconds));
+        return sb.toString();
+    }
+
+    static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * 单个接口的延迟序列，写入量不大，直接加锁追加
+     */
+    private static final class Series {
+
+        private long[] values = new long[1024];
+
+        private int size;
+
+        private long errors;
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
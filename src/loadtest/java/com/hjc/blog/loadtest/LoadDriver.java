@@ -0,0 +1,142 @@
+package com.hjc.blog.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地 HTTP 压测驱动
+ * closed 模式：固定数量的线程循环发请求，每个线程等上一个响应返回再发下一个，衡量给定并发下的最大吞吐；
+ * fixed 模式：按固定速率排好每个请求的计划发起时间，延迟从计划时间算起，
+ * 服务端变慢导致请求积压时排队时间也计入延迟，避免协调遗漏（coordinated omission）低估尾延迟。
+ */
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String SUCCESS_CODE = "\"code\":\"20000\"";
+
+    private final LoadTestConfig config;
+
+    private final URI baseUri;
+
+    private final HttpClient client;
+
+    private final String[] weightedEndpoints;
+
+    LoadDriver(LoadTestConfig config, int port) {
+        this.config = config;
+        this.baseUri = URI.create("http://127.0.0.1:" + port);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, config.concurrency())))
+                .build();
+        List<String> endpoints = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : config.mix().entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                endpoints.add(entry.getKey());
+            }
+        }
+        this.weightedEndpoints = endpoints.toArray(String[]::new);
+    }
+
+    /**
+     * 按配置的模式压测指定时长
+     *
+     * @param duration 时长
+     * @param recorder 延迟记录器
+     */
+    void run(Duration duration, LatencyRecorder recorder) throws InterruptedException {
+        if ("fixed".equals(config.mode())) {
+            runFixedRate(duration, recorder);
+        } else {
+            runClosedLoop(duration, recorder);
+        }
+    }
+
+    private void runClosedLoop(Duration duration, LatencyRecorder recorder) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    String endpoint = nextEndpoint();
+                    long start = System.nanoTime();
+                    boolean success = send(endpoint);
+                    recorder.record(endpoint, System.nanoTime() - start, success);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toMillis() + REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void runFixedRate(Duration duration, LatencyRecorder recorder) throws InterruptedException {
+        long intervalNanos = 1_000_000_000L / config.rate();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        // 请求由线程池异步发出，调度线程只负责按计划时间投递，不被慢响应拖住
+        ExecutorService workers = Executors.newCachedThreadPool();
+        for (long intended = start; intended < deadline; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            long scheduledAt = intended;
+            workers.execute(() -> {
+                String endpoint = nextEndpoint();
+                boolean success = send(endpoint);
+                recorder.record(endpoint, System.nanoTime() - scheduledAt, success);
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private String nextEndpoint() {
+        return weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+    }
+
+    private boolean send(String endpoint) {
+        try {
+            HttpResponse<String> response = client.send(request(endpoint), HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && response.body().contains(SUCCESS_CODE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HttpRequest request(String endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case "list" -> HttpRequest.newBuilder(baseUri.resolve("/article/list?pageNum=" + (1 + random.nextInt(config.listPages()))))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            case "detail" -> HttpRequest.newBuilder(baseUri.resolve("/article/" + (1 + random.nextLong(config.articles()))))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            case "login" -> HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format("{\"username\":\"user%d\",\"password\":\"%s\"}",
+                            1 + random.nextLong(config.users()), DataGenerator.PASSWORD)))
+                    .build();
+            default -> throw new IllegalArgumentException("未知接口：" + endpoint);
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.hjc.blog.loadtest;
+
+import com.hjc.blog.BlogApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 端到端压测入口
+ * 1. 在 target/loadtest 下创建 H2 文件库（MySQL 兼容模式），按 blog_schema.sql 建表并写入合成数据；
+ * 2. 以 loadtest 配置启动应用，端口随机；
+ * 3. 预热后按配置的模式压测 /article/list、/article/{id}、/auth/login，输出各接口的延迟分位数；
+ * 4. --threads=both 时分别以 Tomcat 线程池和虚拟线程各启动一次，输出吞吐对比。
+ * Redis 不是必需的：未启动时缓存降级为查库，结果会偏慢，启动时打印提示。
+ */
+public final class LoadTestApplication {
+
+    private static final String JDBC_URL = "jdbc:h2:file:./target/loadtest/blog;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        prepareDatabase(config);
+
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        for (String threads : config.threads()) {
+            throughput.put(threads, run(config, threads));
+        }
+        if (throughput.size() > 1) {
+            System.out.println("执行模型对比（吞吐/s）：");
+            throughput.forEach((threads, value) -> System.out.printf("  %-8s %10.1f%n", threads, value));
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 以指定执行模型启动应用并压测一轮
+     *
+     * @return 整体吞吐量
+     */
+    private static double run(LoadTestConfig config, String threads) throws InterruptedException {
+        List<String> appArgs = new ArrayList<>();
+        appArgs.add("--spring.datasource.url=" + JDBC_URL);
+        appArgs.add("--blog.threads.virtual=" + "virtual".equals(threads));
+        if (config.poolSize() > 0) {
+            appArgs.add("--spring.datasource.druid.max-active=" + config.poolSize());
+        }
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BlogApplication.class).profiles("loadtest");
+        if (!config.dbLatency().isZero()) {
+            builder.initializers(context -> context.getBeanFactory().registerSingleton(
+                    "simulatedDbLatencyInterceptor", new SimulatedDbLatencyInterceptor(config.dbLatency())));
+        }
+
+        ConfigurableApplicationContext context = builder.run(appArgs.toArray(String[]::new));
+        try {
+            checkRedis(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver(config, port);
+
+            System.out.printf("[%s] 预热 %s ...%n", threads, format(config.warmup()));
+            driver.run(config.warmup(), new LatencyRecorder(config.mix().keySet()));
+
+            System.out.printf("[%s] 压测 %s，模式 %s，%s%s ...%n", threads, format(config.duration()), config.mode(),
+                    "fixed".equals(config.mode()) ? "速率 " + config.rate() + "/s" : "并发 " + config.concurrency(),
+                    config.dbLatency().isZero() ? "" : "，每条 SQL 附加延迟 " + format(config.dbLatency()));
+            LatencyRecorder recorder = new LatencyRecorder(config.mix().keySet());
+            long start = System.nanoTime();
+            driver.run(config.duration(), recorder);
+            long elapsed = System.nanoTime() - start;
+            System.out.println();
+            System.out.print(recorder.report(elapsed));
+            return recorder.count() / (elapsed / 1e9);
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 准备压测数据，已有同样规模的数据且允许复用时跳过生成
+     */
+    private static void prepareDatabase(LoadTestConfig config) throws Exception {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            if (config.reuseData() && matches(connection, config)) {
+                System.out.println("复用已有的压测数据，如需重新生成请加 --reuse-data=false");
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+            }
+            SchemaLoader.load(connection, false);
+            new DataGenerator(config).generate(connection);
+        }
+    }
+
+    private static boolean matches(Connection connection, LoadTestConfig config) {
+        try (Statement statement = connection.createStatement()) {
+            return count(statement, "article") == config.articles()
+                    && count(statement, "tag") == config.tags()
+                    && count(statement, "category") == config.categories()
+                    && count(statement, "`user`") == config.users()
+                    && count(statement, "article_tag") == config.articles() * config.tagsPerArticle();
+        } catch (SQLException e) {
+            // 表不存在
+            return false;
+        }
+    }
+
+    private static long count(Statement statement, String table) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void checkRedis(ConfigurableApplicationContext context) {
+        try {
+            context.getBean(StringRedisTemplate.class).hasKey("blog:loadtest:ping");
+        } catch (Exception e) {
+            System.out.println("提示：Redis 不可用，缓存降级为查库，结果不代表生产配置下的性能");
+        }
+    }
+
+    private static String format(Duration duration) {
+        return duration.toMillis() % 1000 == 0 ? duration.toSeconds() + "s" : duration.toMillis() + "ms";
+    }
+}
@@ -0,0 +1,125 @@
+package com.hjc.blog.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 压测参数，从 --key=value 形式的命令行参数解析
+ *
+ * @param articles       文章数
+ * @param tags           标签数
+ * @param tagsPerArticle 每篇文章的标签数
+ * @param categories     分类数
+ * @param users          用户数
+ * @param days           文章发布时间分布的天数
+ * @param reuseData      数据库中已有同样规模的数据时跳过生成
+ * @param mode           压测模式：closed-固定并发循环请求，fixed-固定速率发起请求
+ * @param concurrency    closed 模式的并发数
+ * @param rate           fixed 模式每秒发起的请求数
+ * @param warmup         预热时长，预热期间的结果不计入报告
+ * @param duration       压测时长
+ * @param mix            各接口的请求权重
+ * @param listPages      列表接口随机访问的页数范围
+ * @param threads        请求执行模型，依次各压一轮：platform-Tomcat 线程池，virtual-虚拟线程
+ * @param dbLatency      每条 SQL 额外等待的时长，模拟到 MySQL 的网络往返，0 表示不模拟
+ * @param poolSize       Druid 最大连接数，0 表示使用 application-loadtest.yml 的配置
+ */
+record LoadTestConfig(
+        long articles,
+        long tags,
+        int tagsPerArticle,
+        long categories,
+        long users,
+        int days,
+        boolean reuseData,
+        String mode,
+        int concurrency,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Map<String, Integer> mix,
+        int listPages,
+        List<String> threads,
+        Duration dbLatency,
+        int poolSize
+) {
+
+    private static final Set<String> ENDPOINTS = Set.of("list", "detail", "login");
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("参数格式应为 --key=value：" + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                Long.parseLong(values.getOrDefault("articles", "100000")),
+                Long.parseLong(values.getOrDefault("tags", "10000")),
+                Integer.parseInt(values.getOrDefault("tags-per-article", "3")),
+                Long.parseLong(values.getOrDefault("categories", "20")),
+                Long.parseLong(values.getOrDefault("users", "10000")),
+                Integer.parseInt(values.getOrDefault("days", "365")),
+                Boolean.parseBoolean(values.getOrDefault("reuse-data", "true")),
+                values.getOrDefault("mode", "closed"),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "15s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                parseMix(values.getOrDefault("mix", "list:6,detail:3,login:1")),
+                Integer.parseInt(values.getOrDefault("list-pages", "50")),
+                parseThreads(values.getOrDefault("threads", "platform")),
+                DurationStyle.detectAndParse(values.getOrDefault("db-latency", "0ms")),
+                Integer.parseInt(values.getOrDefault("pool-size", "0"))
+        );
+        config.validate();
+        return config;
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).forEach(entry -> {
+            String[] parts = entry.split(":");
+            mix.put(parts[0], parts.length > 1 ? Integer.parseInt(parts[1]) : 1);
+        });
+        return mix;
+    }
+
+    /**
+     * both 表示先后压测两种模型，便于对比
+     */
+    private static List<String> parseThreads(String value) {
+        return "both".equals(value) ? List.of("platform", "virtual") : List.of(value);
+    }
+
+    private void validate() {
+        if (articles < 1 || tags < 1 || categories < 1 || users < 1) {
+            throw new IllegalArgumentException("articles、tags、categories、users 均需大于 0");
+        }
+        if (tagsPerArticle < 0 || tagsPerArticle > tags) {
+            throw new IllegalArgumentException("tags-per-article 需在 0 到 tags 之间");
+        }
+        if (!"closed".equals(mode) && !"fixed".equals(mode)) {
+            throw new IllegalArgumentException("mode 只支持 closed 或 fixed");
+        }
+        if (!ENDPOINTS.containsAll(mix.keySet()) || mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix 只支持 " + ENDPOINTS + "，且权重之和需大于 0");
+        }
+        if (!List.of("platform", "virtual").containsAll(threads)) {
+            throw new IllegalArgumentException("threads 只支持 platform、virtual 或 both");
+        }
+        if (threads.contains("virtual") && Runtime.version().feature() < 21) {
+            throw new IllegalArgumentException("虚拟线程需要 JDK 21 及以上，当前版本: " + Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.hjc.blog.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 建表脚本加载器
+ * 读取 blog_schema.sql，去掉 H2 不支持的 MySQL 专有语法后执行：
+ * 表选项（ENGINE、CHARSET 等）、UNSIGNED、FULLTEXT 索引；索引名在 H2 中全库唯一，统一加表名前缀。
+ */
+final class SchemaLoader {
+
+    private static final Pattern CREATE_TABLE = Pattern.compile("CREATE TABLE `(\\w+)`");
+
+    private static final Pattern INDEX_NAME = Pattern.compile("(KEY) `(\\w+)`");
+
+    private SchemaLoader() {
+    }
+
+    /**
+     * 执行建表脚本
+     *
+     * @param connection 数据库连接
+     * @param withSeed   是否执行脚本中的初始化数据
+     */
+    static void load(Connection connection, boolean withSeed) throws IOException, SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements(withSeed)) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    static List<String> statements(boolean withSeed) throws IOException {
+        String script;
+        try (InputStream in = SchemaLoader.class.getResourceAsStream("/blog_schema.sql")) {
+            if (in == null) {
+                throw new IOException("classpath 中找不到 blog_schema.sql");
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        StringBuilder cleaned = new StringBuilder();
+        for (String line : script.split("\n")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("--") || trimmed.startsWith("FULLTEXT KEY")) {
+                continue;
+            }
+            cleaned.append(line).append('\n');
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (String raw : cleaned.toString().split(";\\s*\n")) {
+            String sql = raw.trim();
+            if (sql.isEmpty()) {
+                continue;
+            }
+            if (!withSeed && (sql.startsWith("INSERT") || sql.startsWith("CREATE OR REPLACE VIEW"))) {
+                continue;
+            }
+            if (sql.startsWith("CREATE TABLE")) {
+                sql = toH2Table(sql);
+            }
+            statements.add(sql);
+        }
+        return statements;
+    }
+
+    private static String toH2Table(String sql) {
+        Matcher table = CREATE_TABLE.matcher(sql);
+        String tableName = table.find() ? table.group(1) : "";
+        sql = sql.replaceAll("\\)\\s*ENGINE=[^\n]*$", ")")
+                .replace(" UNSIGNED", "")
+                // 去掉 FULLTEXT 行后，上一行末尾可能留下多余的逗号
+                .replaceAll(",\\s*\\n\\)$", "\n)");
+        return INDEX_NAME.matcher(sql).replaceAll("$1 `" + tableName + "_$2`");
+    }
+}
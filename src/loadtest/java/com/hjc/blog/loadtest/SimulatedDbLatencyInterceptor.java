@@ -0,0 +1,36 @@
+package com.hjc.blog.loadtest;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 模拟数据库网络延迟
+ * H2 在进程内执行，语句几乎不等待 I/O；每条语句执行前占着连接等待固定时长，
+ * 近似到独立 MySQL 的往返延迟，线程模型的差异才会体现在压测结果中。
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "batch", args = {Statement.class})
+})
+final class SimulatedDbLatencyInterceptor implements Interceptor {
+
+    private final Duration latency;
+
+    SimulatedDbLatencyInterceptor(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Thread.sleep(latency.toMillis(), latency.toNanosPart() % 1_000_000);
+        return invocation.proceed();
+    }
+}
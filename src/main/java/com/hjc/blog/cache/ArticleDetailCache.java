@@ -0,0 +1,100 @@
+package com.hjc.blog.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hjc.blog.vo.ArticleVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 文章详情缓存
+ * 以 JSON 形式将 ArticleVo 缓存到 Redis，Redis 不可用时降级为直接查库
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleDetailCache {
+
+    private static final String KEY_PREFIX = "blog:article:detail:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 缓存过期时间，默认 30 分钟
+     */
+    @Value("${blog.cache.article-detail.ttl:30m}")
+    private Duration ttl;
+
+    /**
+     * 读取缓存
+     *
+     * @param articleId 文章ID
+     * @return 文章详情，未命中返回 null
+     */
+    public ArticleVo get(Long articleId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key(articleId));
+            return json == null ? null : objectMapper.readValue(json, ArticleVo.class);
+        } catch (Exception e) {
+            log.warn("读取文章详情缓存失败，文章ID: {}", articleId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 写入缓存，过期时间附加最多 10% 的随机偏移，避免热点文章同时失效
+     *
+     * @param article 文章详情
+     */
+    public void put(ArticleVo article) {
+        try {
+            long jitter = ThreadLocalRandom.current().nextLong(ttl.toMillis() / 10 + 1);
+            stringRedisTemplate.opsForValue().set(
+                    key(article.getId()),
+                    objectMapper.writeValueAsString(article),
+                    ttl.plusMillis(jitter)
+            );
+        } catch (Exception e) {
+            log.warn("写入文章详情缓存失败，文章ID: {}", article.getId(), e);
+        }
+    }
+
+    /**
+     * 删除缓存
+     * 在事务中调用时，提交后再删除一次，防止并发读在提交前回填旧数据
+     *
+     * @param articleId 文章ID
+     */
+    public void evict(Long articleId) {
+        delete(articleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(articleId);
+                }
+            });
+        }
+    }
+
+    private void delete(Long articleId) {
+        try {
+            stringRedisTemplate.delete(key(articleId));
+        } catch (Exception e) {
+            log.warn("删除文章详情缓存失败，文章ID: {}", articleId, e);
+        }
+    }
+
+    private String key(Long articleId) {
+        return KEY_PREFIX + articleId;
+    }
+}
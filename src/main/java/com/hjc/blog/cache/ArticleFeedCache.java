@@ -0,0 +1,233 @@
+package com.hjc.blog.cache;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hjc.blog.dto.ArticleQueryDto;
+import com.hjc.blog.vo.ArticleListVo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 首页文章列表快照
+ * 只缓存访问最集中的默认查询：已发布、按创建时间倒序、前几页，可带分类、置顶、精选筛选。
+ * 快照保存在本地内存，文章发布或变更的事务提交后在后台整体重建，重建完成前继续返回旧快照；
+ * 浏览量等计数的变化由写入后过期兜底，其他实例的快照同样在过期后刷新。
+ */
+@Slf4j
+@Component
+public class ArticleFeedCache {
+
+    private static final String DEFAULT_ORDER_BY = "createTime";
+
+    /**
+     * 缓存的最大页码
+     */
+    @Value("${blog.cache.feed.max-pages:3}")
+    private int maxPages;
+
+    /**
+     * 缓存的最大每页条数
+     */
+    @Value("${blog.cache.feed.max-page-size:50}")
+    private int maxPageSize;
+
+    /**
+     * 最多缓存的快照数
+     */
+    @Value("${blog.cache.feed.max-size:1000}")
+    private long maxSize;
+
+    /**
+     * 写入后过期时间
+     */
+    @Value("${blog.cache.feed.ttl:1m}")
+    private Duration ttl;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-feed-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 是否已有待执行的重建，期间的变更合并为一次
+     */
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+
+    /**
+     * 值为加载中或已完成的快照，加载在调用线程中进行，不在 ConcurrentHashMap 的桶锁内查库，
+     * 请求运行在虚拟线程上时不会钉住载体线程
+     */
+    private AsyncCache<FeedKey, Page<ArticleListVo>> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 判断查询是否可以使用快照
+     *
+     * @param request 查询请求
+     * @return 快照键，不可使用快照时返回 null
+     */
+    public FeedKey keyOf(ArticleQueryDto request) {
+        boolean defaultQuery = !StringUtils.hasText(request.getKeyword())
+                && request.getTagId() == null
+                && CollectionUtils.isEmpty(request.getTagIds())
+                && request.getAuthorId() == null
+                && (request.getStatus() == null || request.getStatus() == 1)
+                && (request.getOrderBy() == null || DEFAULT_ORDER_BY.equals(request.getOrderBy()))
+                && !Boolean.TRUE.equals(request.getAsc());
+        if (!defaultQuery
+                || request.getPageNum() == null || request.getPageNum() < 1 || request.getPageNum() > maxPages
+                || request.getPageSize() == null || request.getPageSize() < 1 || request.getPageSize() > maxPageSize) {
+            return null;
+        }
+        return new FeedKey(request.getCategoryId(), request.getIsTop(), request.getIsFeatured(),
+                request.getPageNum(), request.getPageSize());
+    }
+
+    /**
+     * 读取快照，未命中时加载并缓存
+     * 返回的是快照的副本，调用方可以补充点赞、收藏等用户相关字段
+     *
+     * @param key    快照键
+     * @param loader 查库加载分页结果
+     * @return 分页结果
+     */
+    public Page<ArticleListVo> get(FeedKey key, Function<FeedKey, Page<ArticleListVo>> loader) {
+        CompletableFuture<Page<ArticleListVo>> snapshot = cache.getIfPresent(key);
+        if (snapshot == null) {
+            // 并发未命中时只有放入占位的线程查库，其他线程等待同一结果；加载失败的占位由缓存自动移除
+            CompletableFuture<Page<ArticleListVo>> loading = new CompletableFuture<>();
+            snapshot = cache.asMap().putIfAbsent(key, loading);
+            if (snapshot == null) {
+                try {
+                    loading.complete(loader.apply(key));
+                } catch (RuntimeException e) {
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+                snapshot = loading;
+            }
+        }
+        try {
+            return copy(snapshot.join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 文章发布或变更后重建全部快照
+     * 在事务中调用时提交后再重建，避免读到未提交的数据
+     *
+     * @param loader 查库加载分页结果
+     */
+    public void rebuild(Function<FeedKey, Page<ArticleListVo>> loader) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRebuild(loader);
+                }
+            });
+        } else {
+            scheduleRebuild(loader);
+        }
+    }
+
+    /**
+     * 快照命中统计
+     */
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleRebuild(Function<FeedKey, Page<ArticleListVo>> loader) {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            // 先清除标记，重建期间的新变更会再安排一次
+            rebuildPending.set(false);
+            List<FeedKey> keys = new ArrayList<>(cache.asMap().keySet());
+            for (FeedKey key : keys) {
+                try {
+                    cache.put(key, CompletableFuture.completedFuture(loader.apply(key)));
+                } catch (Exception e) {
+                    log.warn("首页快照重建失败，移除快照: {}", key, e);
+                    cache.synchronous().invalidate(key);
+                }
+            }
+            log.debug("首页快照重建完成，快照数: {}", keys.size());
+        });
+    }
+
+    private Page<ArticleListVo> copy(Page<ArticleListVo> page) {
+        Page<ArticleListVo> copy = new Page<>(page.getCurrent(), page.getSize(), page.getTotal());
+        List<ArticleListVo> records = new ArrayList<>(page.getRecords().size());
+        for (ArticleListVo item : page.getRecords()) {
+            ArticleListVo vo = new ArticleListVo();
+            BeanUtils.copyProperties(item, vo);
+            records.add(vo);
+        }
+        copy.setRecords(records);
+        return copy;
+    }
+
+    /**
+     * 快照键
+     *
+     * @param categoryId 分类ID
+     * @param isTop      是否置顶
+     * @param isFeatured 是否精选
+     * @param pageNum    页码
+     * @param pageSize   每页大小
+     */
+    public record FeedKey(Long categoryId, Integer isTop, Integer isFeatured, int pageNum, int pageSize) {
+
+        /**
+         * 还原为查询请求
+         */
+        public ArticleQueryDto toQuery() {
+            ArticleQueryDto request = new ArticleQueryDto();
+            request.setCategoryId(categoryId);
+            request.setIsTop(isTop);
+            request.setIsFeatured(isFeatured);
+            request.setPageNum(pageNum);
+            request.setPageSize(pageSize);
+            return request;
+        }
+    }
+}
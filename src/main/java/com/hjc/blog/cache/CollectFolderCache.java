@@ -0,0 +1,100 @@
+package com.hjc.blog.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hjc.blog.vo.CollectFolderVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 用户收藏夹统计缓存
+ * 以 JSON 形式缓存用户的收藏夹列表及各收藏夹的收藏数，收藏变化时删除
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectFolderCache {
+
+    private static final String KEY_PREFIX = "blog:collect:folders:";
+
+    private static final TypeReference<List<CollectFolderVo>> TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 缓存过期时间，默认 1 小时
+     */
+    @Value("${blog.cache.collect-folder.ttl:1h}")
+    private Duration ttl;
+
+    /**
+     * 读取缓存
+     *
+     * @param userId 用户ID
+     * @return 收藏夹列表，未命中返回 null
+     */
+    public List<CollectFolderVo> get(Long userId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key(userId));
+            return json == null ? null : objectMapper.readValue(json, TYPE);
+        } catch (Exception e) {
+            log.warn("读取收藏夹缓存失败，用户ID: {}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 写入缓存
+     *
+     * @param userId  用户ID
+     * @param folders 收藏夹列表
+     */
+    public void put(Long userId, List<CollectFolderVo> folders) {
+        try {
+            stringRedisTemplate.opsForValue().set(key(userId), objectMapper.writeValueAsString(folders), ttl);
+        } catch (Exception e) {
+            log.warn("写入收藏夹缓存失败，用户ID: {}", userId, e);
+        }
+    }
+
+    /**
+     * 删除缓存
+     * 在事务中调用时，提交后再删除一次，防止并发读在提交前回填旧数据
+     *
+     * @param userId 用户ID
+     */
+    public void evict(Long userId) {
+        delete(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(userId);
+                }
+            });
+        }
+    }
+
+    private void delete(Long userId) {
+        try {
+            stringRedisTemplate.delete(key(userId));
+        } catch (Exception e) {
+            log.warn("删除收藏夹缓存失败，用户ID: {}", userId, e);
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
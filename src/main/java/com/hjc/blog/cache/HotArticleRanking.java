@@ -0,0 +1,251 @@
+package com.hjc.blog.cache;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.vo.ArticleListVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 热门文章榜
+ * 热度 = (浏览 × 权重 + 点赞 × 权重 + 评论 × 权重 + 收藏 × 权重) × 0.5 ^ (发布时长 / 半衰期)，
+ * 定时按主键分批扫描时间窗口内已发布文章的计数列，用小顶堆保留前 N 篇，连同列表展示数据整体替换本地快照。
+ * 榜单分页直接读取快照，不访问数据库；文章删除、下架提交后从快照移除。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotArticleRanking {
+
+    private final ArticleMapper articleMapper;
+
+    /**
+     * 当前榜单，按热度从高到低，整体替换不做原地修改
+     */
+    private final AtomicReference<List<ArticleListVo>> snapshot = new AtomicReference<>();
+
+    /**
+     * 本轮刷新开始后移除的文章，发布新快照时过滤掉，避免刷新把刚下架的文章带回榜单
+     */
+    private final Set<Long> removedIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 串行化刷新；刷新期间持有锁查库，用 ReentrantLock 而不是 synchronized，
+     * 等待的虚拟线程可以让出载体线程。移除不取锁，直接替换快照
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 榜单保留的文章数
+     */
+    @Value("${blog.hot.size:500}")
+    private int size;
+
+    /**
+     * 只统计该时间窗口内发布的文章
+     */
+    @Value("${blog.hot.window:30d}")
+    private Duration window;
+
+    /**
+     * 热度半衰期：发布时长每增加一个半衰期，热度减半
+     */
+    @Value("${blog.hot.half-life:24h}")
+    private Duration halfLife;
+
+    /**
+     * 扫描时每批读取的文章数
+     */
+    @Value("${blog.hot.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${blog.hot.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${blog.hot.weight.like:5}")
+    private double likeWeight;
+
+    @Value("${blog.hot.weight.comment:10}")
+    private double commentWeight;
+
+    @Value("${blog.hot.weight.collect:8}")
+    private double collectWeight;
+
+    /**
+     * 榜单是否已完成首次计算
+     */
+    public boolean isReady() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * 榜单文章数
+     */
+    public int total() {
+        List<ArticleListVo> current = snapshot.get();
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * 读取榜单的一段
+     * 返回的是快照的副本，调用方可以补充点赞、收藏等用户相关字段
+     *
+     * @param offset 起始位置
+     * @param limit  条数
+     * @return 文章列表，榜单未就绪或超出范围时为空
+     */
+    public List<ArticleListVo> page(int offset, int limit) {
+        List<ArticleListVo> current = snapshot.get();
+        if (current == null || offset < 0 || offset >= current.size() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<ArticleListVo> records = new ArrayList<>(limit);
+        for (ArticleListVo item : current.subList(offset, Math.min(offset + limit, current.size()))) {
+            ArticleListVo copy = new ArticleListVo();
+            BeanUtils.copyProperties(item, copy);
+            records.add(copy);
+        }
+        return records;
+    }
+
+    /**
+     * 重新计算榜单
+     *
+     * @param loader 按文章ID批量加载列表展示数据，返回顺序不限
+     * @return 榜单文章数
+     */
+    public int refresh(Function<List<Long>, List<ArticleListVo>> loader) {
+        lock.lock();
+        try {
+            return doRefresh(loader);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int doRefresh(Function<List<Long>, List<ArticleListVo>> loader) {
+        // 扫描在清空之后开始，之前移除的文章已提交，扫描本身就读不到
+        removedIds.clear();
+        LocalDateTime now = LocalDateTime.now();
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+
+        long lastId = 0;
+        int scanned = 0;
+        while (true) {
+            // 只取计算热度需要的列，按主键游标分批
+            LambdaQueryWrapper<Article> wrapper = new LambdaQueryWrapper<>();
+            wrapper.select(Article::getId, Article::getViewCount, Article::getLikeCount,
+                            Article::getCommentCount, Article::getCollectCount, Article::getPublishTime)
+                    .eq(Article::getStatus, 1)
+                    .ge(Article::getPublishTime, now.minus(window))
+                    .gt(Article::getId, lastId)
+                    .orderByAsc(Article::getId)
+                    .last("LIMIT " + chunkSize);
+            List<Article> chunk = articleMapper.selectList(wrapper);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (Article article : chunk) {
+                heap.offer(new Scored(article.getId(), score(article, now)));
+                if (heap.size() > size) {
+                    heap.poll();
+                }
+            }
+            scanned += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+
+        List<Scored> ranked = new ArrayList<>(heap);
+        ranked.sort(Comparator.comparingDouble(Scored::score).reversed());
+        List<ArticleListVo> ranking = new ArrayList<>(ranked.size());
+        if (!ranked.isEmpty()) {
+            Map<Long, ArticleListVo> items = loader.apply(ranked.stream().map(Scored::articleId).toList()).stream()
+                    .collect(Collectors.toMap(ArticleListVo::getId, Function.identity()));
+            for (Scored scored : ranked) {
+                ArticleListVo item = items.get(scored.articleId());
+                if (item != null && !removedIds.contains(item.getId())) {
+                    ranking.add(item);
+                }
+            }
+        }
+        snapshot.set(List.copyOf(ranking));
+        // 发布前一刻移除的文章可能替换的是旧快照，发布后再过滤一次
+        removedIds.forEach(this::filterOut);
+        log.info("热门文章榜刷新完成，扫描: {}，上榜: {}", scanned, ranking.size());
+        return ranking.size();
+    }
+
+    /**
+     * 文章删除或下架后从榜单移除
+     * 在事务中调用时，提交后再移除，回滚则保持不变
+     *
+     * @param articleId 文章ID
+     */
+    public void remove(Long articleId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doRemove(articleId);
+                }
+            });
+        } else {
+            doRemove(articleId);
+        }
+    }
+
+    private void doRemove(Long articleId) {
+        // 先登记再替换：与刷新并发时，要么刷新发布时能看到登记，要么这里替换的就是新快照
+        removedIds.add(articleId);
+        filterOut(articleId);
+    }
+
+    private void filterOut(Long articleId) {
+        snapshot.updateAndGet(current -> current == null || current.stream().noneMatch(item -> item.getId().equals(articleId))
+                ? current
+                : current.stream().filter(item -> !item.getId().equals(articleId)).toList());
+    }
+
+    /**
+     * 计算文章热度
+     *
+     * @param article 文章，需包含计数列和发布时间
+     * @param now     计算时刻
+     * @return 热度
+     */
+    double score(Article article, LocalDateTime now) {
+        double weighted = value(article.getViewCount()) * viewWeight
+                + value(article.getLikeCount()) * likeWeight
+                + value(article.getCommentCount()) * commentWeight
+                + value(article.getCollectCount()) * collectWeight;
+        double ageMillis = Math.max(0, Duration.between(article.getPublishTime(), now).toMillis());
+        return weighted * Math.pow(0.5, ageMillis / halfLife.toMillis());
+    }
+
+    private double value(Integer count) {
+        return count == null ? 0 : count;
+    }
+
+    private record Scored(Long articleId, double score) {
+    }
+}
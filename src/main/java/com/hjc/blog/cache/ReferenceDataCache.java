@@ -0,0 +1,173 @@
+package com.hjc.blog.cache;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.hjc.blog.entity.Category;
+import com.hjc.blog.entity.Tag;
+import com.hjc.blog.entity.User;
+import com.hjc.blog.mapper.CategoryMapper;
+import com.hjc.blog.mapper.TagMapper;
+import com.hjc.blog.mapper.UserMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 基础数据本地缓存
+ * 缓存分类、标签及作者展示信息（昵称、头像），供文章详情和列表补全使用。
+ * 容量和过期时间可配置，未命中的键合并为一次 IN 查询加载。
+ * 目前没有修改分类、标签名称或用户昵称、头像的接口，变更（如直接改库）在过期时间内生效。
+ * 返回的实体为共享对象，调用方不得修改。
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final CategoryMapper categoryMapper;
+
+    private final TagMapper tagMapper;
+
+    private final UserMapper userMapper;
+
+    /**
+     * 每类数据的最大缓存条目数
+     */
+    @Value("${blog.cache.reference.max-size:10000}")
+    private long maxSize;
+
+    /**
+     * 写入后过期时间，默认 10 分钟
+     */
+    @Value("${blog.cache.reference.ttl:10m}")
+    private Duration ttl;
+
+    private LoadingCache<Long, Category> categoryCache;
+
+    private LoadingCache<Long, Tag> tagCache;
+
+    private LoadingCache<Long, User> authorCache;
+
+    @PostConstruct
+    public void init() {
+        this.categoryCache = buildCache(ids -> categoryMapper.selectByIds(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity())));
+        this.tagCache = buildCache(ids -> tagMapper.selectByIds(ids).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity())));
+        this.authorCache = buildCache(ids -> {
+            // 只查展示需要的列，不加载密码等敏感字段
+            LambdaQueryWrapper<User> wrapper = new LambdaQueryWrapper<>();
+            wrapper.select(User::getId, User::getUsername, User::getNickname, User::getAvatar)
+                    .in(User::getId, ids);
+            return userMapper.selectList(wrapper).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+        });
+    }
+
+    /**
+     * 获取分类
+     *
+     * @param categoryId 分类ID
+     * @return 分类，不存在返回 null
+     */
+    public Category getCategory(Long categoryId) {
+        return categoryId == null ? null : categoryCache.get(categoryId);
+    }
+
+    /**
+     * 批量获取分类
+     *
+     * @param categoryIds 分类ID集合
+     * @return 分类ID -> 分类，不存在的ID不包含在结果中
+     */
+    public Map<Long, Category> getCategories(Collection<Long> categoryIds) {
+        return getAll(categoryCache, categoryIds);
+    }
+
+    /**
+     * 批量获取标签
+     *
+     * @param tagIds 标签ID集合
+     * @return 标签ID -> 标签，不存在的ID不包含在结果中
+     */
+    public Map<Long, Tag> getTags(Collection<Long> tagIds) {
+        return getAll(tagCache, tagIds);
+    }
+
+    /**
+     * 获取作者展示信息
+     *
+     * @param userId 用户ID
+     * @return 仅包含 id、username、nickname、avatar 的用户，不存在返回 null
+     */
+    public User getAuthor(Long userId) {
+        return userId == null ? null : authorCache.get(userId);
+    }
+
+    /**
+     * 批量获取作者展示信息
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID -> 用户，不存在的ID不包含在结果中
+     */
+    public Map<Long, User> getAuthors(Collection<Long> userIds) {
+        return getAll(authorCache, userIds);
+    }
+
+    /**
+     * 分类缓存，供监控采集命中率
+     */
+    public Cache<Long, Category> getCategoryCache() {
+        return categoryCache;
+    }
+
+    /**
+     * 标签缓存，供监控采集命中率
+     */
+    public Cache<Long, Tag> getTagCache() {
+        return tagCache;
+    }
+
+    /**
+     * 作者缓存，供监控采集命中率
+     */
+    public Cache<Long, User> getAuthorCache() {
+        return authorCache;
+    }
+
+    private <V> Map<Long, V> getAll(LoadingCache<Long, V> cache, Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return cache.getAll(ids);
+    }
+
+    private <V> LoadingCache<Long, V> buildCache(Function<Set<? extends Long>, Map<Long, V>> batchLoader) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(new CacheLoader<Long, V>() {
+                    @Override
+                    public V load(Long key) {
+                        return batchLoader.apply(Set.of(key)).get(key);
+                    }
+
+                    @Override
+                    public Map<Long, V> loadAll(Set<? extends Long> keys) {
+                        return batchLoader.apply(keys);
+                    }
+                });
+    }
+}
@@ -0,0 +1,54 @@
+package com.hjc.blog.common.utils;
+
+import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.common.result.ResultCodeEnum;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 游标工具类
+ * 将游标分页的排序键编码为不透明字符串，供客户端原样回传
+ */
+@UtilityClass
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 编码游标
+     *
+     * @param parts 排序键，null 编码为空串
+     * @return 游标字符串
+     */
+    public String encode(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(part -> part == null ? "" : part.toString())
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码游标
+     *
+     * @param cursor        游标字符串
+     * @param expectedParts 排序键个数
+     * @return 排序键，空串表示 null
+     * @throws BusinessException 游标格式错误
+     */
+    public String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "游标格式错误");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "游标格式错误");
+        }
+    }
+}
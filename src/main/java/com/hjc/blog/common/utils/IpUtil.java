@@ -0,0 +1,32 @@
+package com.hjc.blog.common.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.experimental.UtilityClass;
+
+/**
+ * IP 工具类
+ */
+@UtilityClass
+public class IpUtil {
+
+    /**
+     * 获取客户端IP地址
+     *
+     * @param request HTTP 请求
+     * @return 客户端IP，经过多级代理时取第一个
+     */
+    public String getClientIp(HttpServletRequest request) {
+        String ip = request.getHeader("X-Forwarded-For");
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getHeader("X-Real-IP");
+        }
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getRemoteAddr();
+        }
+        // 处理多级代理的情况，取第一个IP
+        if (ip != null && ip.contains(",")) {
+            ip = ip.split(",")[0].trim();
+        }
+        return ip;
+    }
+}
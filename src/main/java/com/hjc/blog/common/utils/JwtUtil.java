@@ -1,17 +1,28 @@
 package com.hjc.blog.common.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hjc.blog.security.jwt.JwtClaims;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT工具类
@@ -19,6 +30,11 @@ import java.util.Map;
 @Component
 public class JwtUtil {
 
+    /**
+     * 毫秒精度的签发时间声明，标准 iat 只精确到秒
+     */
+    private static final String ISSUED_AT_MILLIS = "iatMs";
+
     /**
      * JWT 密钥
      */
@@ -31,6 +47,56 @@ public class JwtUtil {
     @Value("${jwt.expiration:604800000}")
     private Long expiration;
 
+    /**
+     * 已验签 Token 缓存的最大条目数
+     */
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    /**
+     * 签名密钥，启动时根据 secret 计算一次
+     */
+    private SecretKey secretKey;
+
+    /**
+     * 解析器，线程安全，可复用
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * Token 摘要 -> 已验签声明，条目在 Token 过期时失效
+     */
+    private Cache<String, JwtClaims> claimsCache;
+
+    @PostConstruct
+    public void init() {
+        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims value, long currentTime) {
+                        long remainingMillis = value.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     /**
      * 生成 Token
      *
@@ -60,6 +126,7 @@ public class JwtUtil {
         return Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(now)
+                .claim(ISSUED_AT_MILLIS, now.getTime())
                 .setExpiration(expiryDate)
                 .signWith(getSecretKey(), SignatureAlgorithm.HS512)
                 .compact();
@@ -72,11 +139,50 @@ public class JwtUtil {
      * @return Claims
      */
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 解析并验证 Token，一次验签得到全部声明
+     * 同一 Token 的验签结果会缓存到其过期为止
+     *
+     * @param token JWT Token
+     * @return 已验签的声明，Token 无效或已过期返回 null
+     */
+    public JwtClaims parse(String token) {
+        String cacheKey = digest(token);
+        JwtClaims cached = claimsCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached.isExpired() ? null : cached;
+        }
+
+        JwtClaims jwtClaims;
+        try {
+            Claims claims = getClaimsFromToken(token);
+            // 旧 Token 没有毫秒声明，退回秒级的 iat
+            Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+            jwtClaims = new JwtClaims(
+                    claims.get("userId", Long.class),
+                    claims.get("username", String.class),
+                    claims.get("role", String.class),
+                    issuedAtMillis != null ? new Date(issuedAtMillis) : claims.getIssuedAt(),
+                    claims.getExpiration()
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (jwtClaims.getExpiration() == null || jwtClaims.isExpired()) {
+            return null;
+        }
+        claimsCache.put(cacheKey, jwtClaims);
+        return jwtClaims;
+    }
+
+    /**
+     * 已验签 Token 缓存，供监控采集命中率
+     */
+    public Cache<String, JwtClaims> getClaimsCache() {
+        return claimsCache;
     }
 
     /**
@@ -119,12 +225,7 @@ public class JwtUtil {
      * @return true-有效，false-无效
      */
     public boolean validateToken(String token) {
-        try {
-            Claims claims = getClaimsFromToken(token);
-            return !claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
-        }
+        return parse(token) != null;
     }
 
     /**
@@ -133,7 +234,23 @@ public class JwtUtil {
      * @return SecretKey
      */
     private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return secretKey;
+    }
+
+    /**
+     * 计算 Token 的 SHA-256 摘要，作为缓存键，避免在内存中保留原始 Token
+     *
+     * @param token JWT Token
+     * @return Base64 摘要
+     */
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
     }
 
     /**
@@ -0,0 +1,71 @@
+package com.hjc.blog.common.utils;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Markdown 渲染工具类
+ * 将文章 Markdown 渲染为 HTML 并清洗，防止 XSS
+ */
+@Component
+public class MarkdownUtil {
+
+    /**
+     * 渲染规则版本，修改解析/清洗规则时递增，使已有文章的内容摘要失效并被重新渲染
+     */
+    private static final String RENDER_VERSION = "v1";
+
+    /**
+     * 解析器与渲染器均为线程安全，可复用
+     */
+    private final Parser parser = Parser.builder().build();
+
+    private final HtmlRenderer renderer = HtmlRenderer.builder().build();
+
+    /**
+     * 允许的 HTML 标签与属性，代码块保留 class 以便前端按语言高亮
+     */
+    private final Safelist safelist = Safelist.relaxed()
+            .addTags("hr", "del", "s")
+            .addAttributes("code", "class")
+            .addAttributes("pre", "class");
+
+    /**
+     * 渲染 Markdown 并清洗 HTML
+     *
+     * @param markdown Markdown 内容
+     * @return 清洗后的 HTML
+     */
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        String html = renderer.render(parser.parse(markdown));
+        return Jsoup.clean(html, safelist);
+    }
+
+    /**
+     * 计算内容摘要（包含渲染规则版本），用于判断是否需要重新渲染
+     *
+     * @param markdown Markdown 内容
+     * @return SHA-256 十六进制摘要
+     */
+    public String hash(String markdown) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(RENDER_VERSION.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((markdown == null ? "" : markdown).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.hjc.blog.config;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.hjc.blog.cache.ReferenceDataCache;
+import com.hjc.blog.common.utils.JwtUtil;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 指标配置
+ * HTTP、JVM、Tomcat、Lettuce 命令延迟等由 Actuator 自动采集，这里补充业务和连接池相关的指标：
+ * 开启 {@code @Timed} 注解，绑定 Druid 连接池、Token 验签缓存、基础数据缓存和 commons-pool2 对象池。
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 使 {@code @Timed} 注解生效
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Druid 连接池：活跃、空闲、等待连接的线程数，以及获取连接的等待次数和耗时
+     */
+    @Bean
+    public MeterBinder druidPoolMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.forEach(dataSource -> {
+            if (!(dataSource instanceof DruidDataSource druid)) {
+                return;
+            }
+            String pool = druid.getName();
+            Gauge.builder("druid.connections.active", druid, DruidDataSource::getActiveCount)
+                    .description("已借出的连接数").tag("pool", pool).register(registry);
+            Gauge.builder("druid.connections.idle", druid, DruidDataSource::getPoolingCount)
+                    .description("池中空闲的连接数").tag("pool", pool).register(registry);
+            Gauge.builder("druid.connections.max", druid, DruidDataSource::getMaxActive)
+                    .description("最大连接数").tag("pool", pool).register(registry);
+            Gauge.builder("druid.connections.pending", druid, DruidDataSource::getWaitThreadCount)
+                    .description("正在等待连接的线程数").tag("pool", pool).register(registry);
+            FunctionTimer.builder("druid.connections.wait", druid,
+                            DruidDataSource::getNotEmptyWaitCount, DruidDataSource::getNotEmptyWaitMillis, TimeUnit.MILLISECONDS)
+                    .description("池中无空闲连接时等待获取连接的次数和累计耗时").tag("pool", pool).register(registry);
+        });
+    }
+
+    /**
+     * Token 验签缓存的命中率和条目数
+     */
+    @Bean
+    public MeterBinder jwtClaimsCacheMetrics(JwtUtil jwtUtil) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, jwtUtil.getClaimsCache(), "jwt.claims");
+    }
+
+    /**
+     * 分类、标签、作者本地缓存的命中率和条目数
+     */
+    @Bean
+    public MeterBinder referenceDataCacheMetrics(ReferenceDataCache referenceDataCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, referenceDataCache.getCategoryCache(), "reference.category");
+            CaffeineCacheMetrics.monitor(registry, referenceDataCache.getTagCache(), "reference.tag");
+            CaffeineCacheMetrics.monitor(registry, referenceDataCache.getAuthorCache(), "reference.author");
+        };
+    }
+
+    /**
+     * commons-pool2 对象池（通过 JMX 发现），引入 commons-pool2 开启 Lettuce 连接池后自动采集
+     */
+    @Bean
+    public CommonsObjectPool2Metrics commonsObjectPool2Metrics() {
+        return new CommonsObjectPool2Metrics();
+    }
+}
@@ -5,6 +5,8 @@ import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.BlockAttackInnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.OptimisticLockerInnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.hjc.blog.monitor.SqlStatsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,4 +36,12 @@ public class MybatisPlusConfig {
 
         return interceptor;
     }
+
+    /**
+     * 请求级 SQL 统计拦截器，配合 SqlStatsFilter 使用
+     */
+    @Bean
+    public SqlStatsInterceptor sqlStatsInterceptor(MeterRegistry meterRegistry) {
+        return new SqlStatsInterceptor(meterRegistry);
+    }
 }
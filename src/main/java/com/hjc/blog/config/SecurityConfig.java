@@ -3,7 +3,9 @@ package com.hjc.blog.config;
 import com.hjc.blog.security.filter.JwtAuthenticationFilter;
 import com.hjc.blog.security.handler.JwtAccessDeniedHandler;
 import com.hjc.blog.security.handler.JwtAuthenticationEntryPoint;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -31,6 +33,18 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    /**
+     * 业务端口
+     */
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    /**
+     * 监控端点所在的内网端口，未单独配置时为 -1
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     /**
      * 密码编码器
      */
@@ -66,22 +80,30 @@ public class SecurityConfig {
 
                 // 配置请求授权
                 .authorizeHttpRequests(auth -> auth
+                        // 内网监控端口：只绑定内网地址，Prometheus 直接抓取，不依赖用户登录 Token
+                        .requestMatchers(this::isManagementRequest).permitAll()
+
                         // 白名单：无需认证即可访问
                         .requestMatchers(
                                 "/auth/login",
                                 "/auth/register",
                                 "/article/list",
+                                "/article/scroll",
                                 "/article/{id}",
+                                "/comment/article/{articleId}",
+                                "/comment/{id}/replies",
                                 "/doc.html",
                                 "/webjars/**",
                                 "/swagger-resources/**",
                                 "/v3/api-docs/**",
                                 "/favicon.ico",
-                                "/error"
+                                "/error",
+                                "/actuator/health"
                         ).permitAll()
 
-                        // 管理员接口
-                        .requestMatchers("/article/{id}/top", "/article/{id}/featured").hasRole("ADMIN")
+                        // 管理员接口；监控端点未拆到独立端口时也只对管理员开放
+                        .requestMatchers("/article/{id}/top", "/article/{id}/featured", "/comment/{id}/audit").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // 其他请求需要认证
                         .anyRequest().authenticated()
@@ -100,4 +122,11 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    /**
+     * 是否为发往独立监控端口的请求
+     */
+    private boolean isManagementRequest(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
 }
@@ -0,0 +1,61 @@
+package com.hjc.blog.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 虚拟线程配置类
+ * 开启 blog.threads.virtual 后，Tomcat 为每个请求创建一个虚拟线程，不再使用固定大小的平台线程池；
+ * 请求在 JDBC、Redis 上阻塞时让出载体线程，并发上限由连接池等下游资源决定。
+ * 需要 JDK 21 及以上，通过反射创建执行器，JDK 17 构建的产物同样可以在 21 上开启。
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "blog.threads.virtual", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final String THREAD_NAME_PREFIX = "http-vt-";
+
+    /**
+     * 请求执行器：每个任务一个虚拟线程
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadRequestExecutor() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        log.info("请求改由虚拟线程执行");
+        return executor;
+    }
+
+    /**
+     * 替换 Tomcat 的请求线程池
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService virtualThreadRequestExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadRequestExecutor);
+    }
+
+    /**
+     * 等价于 Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory())
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("虚拟线程需要 JDK 21 及以上，当前版本: " + Runtime.version(), e);
+        }
+    }
+}
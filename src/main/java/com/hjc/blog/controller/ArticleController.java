@@ -1,13 +1,17 @@
 package com.hjc.blog.controller;
 
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.hjc.blog.common.exception.BusinessException;
 import com.hjc.blog.common.result.Result;
+import com.hjc.blog.common.result.ResultCodeEnum;
 import com.hjc.blog.common.utils.SecurityContextUtil;
 import com.hjc.blog.dto.ArticleQueryDto;
 import com.hjc.blog.dto.ArticleDto;
 import com.hjc.blog.service.ArticleService;
 import com.hjc.blog.vo.ArticleListVo;
+import com.hjc.blog.vo.ArticleUserFlagsVo;
 import com.hjc.blog.vo.ArticleVo;
+import com.hjc.blog.vo.CursorPageVo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +20,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 文章控制器
  */
@@ -25,6 +31,11 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ArticleController {
 
+    /**
+     * 批量查询状态时单次最多的文章数
+     */
+    private static final int MAX_FLAG_IDS = 100;
+
     private final ArticleService articleService;
 
     /**
@@ -85,10 +96,35 @@ public class ArticleController {
     @Operation(summary = "分页查询文章", description = "支持按分类、标签、作者、关键词等条件查询")
     @GetMapping("/list")
     public Result<Page<ArticleListVo>> listArticles(ArticleQueryDto request) {
-        Page<ArticleListVo> page = articleService.listArticles(request);
+        Page<ArticleListVo> page = articleService.listArticles(request, SecurityContextUtil.getUserId());
+        return Result.success(page);
+    }
+
+    /**
+     * 游标分页查询文章列表
+     */
+    @Operation(summary = "游标分页查询文章", description = "适用于无限滚动，传入上一页的 nextCursor 继续加载，不返回总数")
+    @GetMapping("/scroll")
+    public Result<CursorPageVo<ArticleListVo>> listArticlesByCursor(ArticleQueryDto request) {
+        CursorPageVo<ArticleListVo> page = articleService.listArticlesByCursor(request, SecurityContextUtil.getUserId());
         return Result.success(page);
     }
 
+    /**
+     * 批量查询点赞、收藏状态
+     */
+    @Operation(summary = "批量查询点赞、收藏状态", description = "返回当前用户在给定文章中已点赞、已收藏的文章ID，最多 100 篇")
+    @GetMapping("/flags")
+    @PreAuthorize("isAuthenticated()")
+    public Result<ArticleUserFlagsVo> getUserFlags(
+            @Parameter(description = "文章ID列表") @RequestParam List<Long> ids) {
+        if (ids.size() > MAX_FLAG_IDS) {
+            throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "单次最多查询 " + MAX_FLAG_IDS + " 篇文章");
+        }
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        return Result.success(articleService.getUserFlags(userId, ids));
+    }
+
     /**
      * 发布草稿
      */
@@ -142,4 +178,14 @@ public class ArticleController {
         articleService.setFeatured(id, isFeatured);
         return Result.success();
     }
+
+    /**
+     * 批量重新渲染文章
+     */
+    @Operation(summary = "批量重新渲染文章", description = "后台分批重新渲染内容或渲染规则有变化的文章，仅管理员可用")
+    @PostMapping("/render")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public Result<Boolean> rerenderArticles() {
+        return Result.success(articleService.rerenderArticles());
+    }
 }
@@ -1,6 +1,7 @@
 package com.hjc.blog.controller;
 
 import com.hjc.blog.common.result.Result;
+import com.hjc.blog.common.utils.IpUtil;
 import com.hjc.blog.dto.LoginDto;
 import com.hjc.blog.dto.RegisterDto;
 import com.hjc.blog.service.AuthService;
@@ -29,7 +30,7 @@ public class AuthController {
     @Operation(summary = "用户登录", description = "支持用户名或邮箱登录")
     @PostMapping("/login")
     public Result<LoginVo> login(@Valid @RequestBody LoginDto request, HttpServletRequest httpRequest) {
-        String ip = getClientIp(httpRequest);
+        String ip = IpUtil.getClientIp(httpRequest);
         LoginVo response = authService.login(request, ip);
         return Result.success(response);
     }
@@ -43,22 +44,4 @@ public class AuthController {
         LoginVo response = authService.register(request);
         return Result.success(response);
     }
-
-    /**
-     * 获取客户端IP地址
-     */
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        // 处理多级代理的情况，取第一个IP
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-        return ip;
-    }
 }
@@ -0,0 +1,80 @@
+package com.hjc.blog.controller;
+
+import com.hjc.blog.common.result.Result;
+import com.hjc.blog.common.utils.SecurityContextUtil;
+import com.hjc.blog.dto.CollectDto;
+import com.hjc.blog.dto.CollectQueryDto;
+import com.hjc.blog.service.CollectService;
+import com.hjc.blog.vo.CollectFolderVo;
+import com.hjc.blog.vo.CollectVo;
+import com.hjc.blog.vo.CursorPageVo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 收藏控制器
+ */
+@Tag(name = "收藏管理", description = "文章收藏、取消收藏及收藏夹查询接口")
+@RestController
+@RequestMapping("/collect")
+@RequiredArgsConstructor
+public class CollectController {
+
+    private final CollectService collectService;
+
+    /**
+     * 收藏文章
+     */
+    @Operation(summary = "收藏文章", description = "可指定收藏夹和备注，重复收藏不会重复计数")
+    @PostMapping("/{articleId}")
+    @PreAuthorize("isAuthenticated()")
+    public Result<Void> collect(
+            @Parameter(description = "文章ID") @PathVariable Long articleId,
+            @Valid @RequestBody(required = false) CollectDto request) {
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        collectService.collect(userId, articleId, request);
+        return Result.success();
+    }
+
+    /**
+     * 取消收藏
+     */
+    @Operation(summary = "取消收藏", description = "未收藏时调用不产生任何变化")
+    @DeleteMapping("/{articleId}")
+    @PreAuthorize("isAuthenticated()")
+    public Result<Void> uncollect(
+            @Parameter(description = "文章ID") @PathVariable Long articleId) {
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        collectService.uncollect(userId, articleId);
+        return Result.success();
+    }
+
+    /**
+     * 游标分页查询我的收藏
+     */
+    @Operation(summary = "查询我的收藏", description = "按收藏时间倒序游标分页，可按收藏夹筛选")
+    @GetMapping("/list")
+    @PreAuthorize("isAuthenticated()")
+    public Result<CursorPageVo<CollectVo>> listCollects(CollectQueryDto request) {
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        return Result.success(collectService.listCollects(userId, request));
+    }
+
+    /**
+     * 查询我的收藏夹
+     */
+    @Operation(summary = "查询我的收藏夹", description = "返回各收藏夹名称及收藏数")
+    @GetMapping("/folders")
+    @PreAuthorize("isAuthenticated()")
+    public Result<List<CollectFolderVo>> listFolders() {
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        return Result.success(collectService.listFolders(userId));
+    }
+}
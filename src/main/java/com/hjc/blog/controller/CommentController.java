@@ -0,0 +1,80 @@
+package com.hjc.blog.controller;
+
+import com.hjc.blog.common.result.Result;
+import com.hjc.blog.common.utils.IpUtil;
+import com.hjc.blog.common.utils.SecurityContextUtil;
+import com.hjc.blog.dto.CommentDto;
+import com.hjc.blog.dto.CommentQueryDto;
+import com.hjc.blog.service.CommentService;
+import com.hjc.blog.vo.CommentSubmitVo;
+import com.hjc.blog.vo.CommentVo;
+import com.hjc.blog.vo.CursorPageVo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 评论控制器
+ */
+@Tag(name = "评论管理", description = "文章评论的发表、审核和查询接口")
+@RestController
+@RequestMapping("/comment")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    /**
+     * 发表评论
+     */
+    @Operation(summary = "发表评论", description = "评论进入审核队列后立即返回评论ID，审核通过前不在列表中展示")
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")
+    public Result<CommentSubmitVo> submitComment(@Valid @RequestBody CommentDto request, HttpServletRequest httpRequest) {
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        CommentSubmitVo vo = commentService.submitComment(request, userId,
+                IpUtil.getClientIp(httpRequest), httpRequest.getHeader(HttpHeaders.USER_AGENT));
+        return Result.success(vo);
+    }
+
+    /**
+     * 审核评论
+     */
+    @Operation(summary = "审核评论", description = "管理员人工审核评论，已通过的评论也可改为拒绝")
+    @PutMapping("/{id}/audit")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public Result<Void> auditComment(
+            @Parameter(description = "评论ID") @PathVariable Long id,
+            @Parameter(description = "审核结果：1-通过，2-拒绝") @RequestParam Integer status) {
+        commentService.auditComment(id, status);
+        return Result.success();
+    }
+
+    /**
+     * 查询文章评论
+     */
+    @Operation(summary = "查询文章评论", description = "游标分页查询一级评论（最新在前），每条附带回复预览和回复总数")
+    @GetMapping("/article/{articleId}")
+    public Result<CursorPageVo<CommentVo>> listComments(
+            @Parameter(description = "文章ID") @PathVariable Long articleId,
+            CommentQueryDto request) {
+        return Result.success(commentService.listComments(articleId, request));
+    }
+
+    /**
+     * 查询评论回复
+     */
+    @Operation(summary = "查询评论回复", description = "游标分页查询一级评论下的回复（按时间顺序），首次加载可传入评论列表返回的 repliesCursor")
+    @GetMapping("/{id}/replies")
+    public Result<CursorPageVo<CommentVo>> listReplies(
+            @Parameter(description = "一级评论ID") @PathVariable Long id,
+            CommentQueryDto request) {
+        return Result.success(commentService.listReplies(id, request));
+    }
+}
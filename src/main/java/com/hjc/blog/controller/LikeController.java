@@ -0,0 +1,63 @@
+package com.hjc.blog.controller;
+
+import com.hjc.blog.common.result.Result;
+import com.hjc.blog.common.utils.SecurityContextUtil;
+import com.hjc.blog.service.LikeService;
+import com.hjc.blog.vo.LikeVo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 点赞控制器
+ */
+@Tag(name = "点赞管理", description = "文章、评论的点赞与取消点赞接口")
+@RestController
+@RequestMapping("/like")
+@RequiredArgsConstructor
+public class LikeController {
+
+    private final LikeService likeService;
+
+    /**
+     * 点赞
+     */
+    @Operation(summary = "点赞", description = "重复点赞不会重复计数")
+    @PostMapping("/{targetType}/{targetId}")
+    @PreAuthorize("isAuthenticated()")
+    public Result<LikeVo> like(
+            @Parameter(description = "目标类型：1-文章，2-评论") @PathVariable Integer targetType,
+            @Parameter(description = "目标ID") @PathVariable Long targetId) {
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        return Result.success(likeService.like(userId, targetId, targetType));
+    }
+
+    /**
+     * 取消点赞
+     */
+    @Operation(summary = "取消点赞", description = "未点赞时调用不产生任何变化")
+    @DeleteMapping("/{targetType}/{targetId}")
+    @PreAuthorize("isAuthenticated()")
+    public Result<LikeVo> unlike(
+            @Parameter(description = "目标类型：1-文章，2-评论") @PathVariable Integer targetType,
+            @Parameter(description = "目标ID") @PathVariable Long targetId) {
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        return Result.success(likeService.unlike(userId, targetId, targetType));
+    }
+
+    /**
+     * 查询点赞状态
+     */
+    @Operation(summary = "查询点赞状态", description = "返回当前用户是否已点赞及点赞数")
+    @GetMapping("/{targetType}/{targetId}")
+    @PreAuthorize("isAuthenticated()")
+    public Result<LikeVo> getLikeStatus(
+            @Parameter(description = "目标类型：1-文章，2-评论") @PathVariable Integer targetType,
+            @Parameter(description = "目标ID") @PathVariable Long targetId) {
+        Long userId = SecurityContextUtil.getRequiredUserId();
+        return Result.success(likeService.getLikeStatus(userId, targetId, targetType));
+    }
+}
@@ -0,0 +1,90 @@
+package com.hjc.blog.counter;
+
+import com.hjc.blog.mapper.ArticleMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 文章评论数计数器
+ * 评论审核通过后只在内存中累加，由定时任务合并为一条 UPDATE 写回，避免评论高峰时逐条锁 article 行
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleCommentCounter {
+
+    private final ArticleMapper articleMapper;
+
+    private final DeltaBuffer pending = new DeltaBuffer();
+
+    /**
+     * 单条 UPDATE 语句最多合并的文章数
+     */
+    @Value("${blog.comment.count-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 调整文章评论数
+     *
+     * @param articleId 文章ID
+     * @param delta     增量，可为负
+     */
+    public void adjust(Long articleId, int delta) {
+        pending.add(articleId, delta);
+    }
+
+    /**
+     * 定时将累计的评论数写回数据库
+     */
+    @Scheduled(fixedDelayString = "${blog.comment.count-flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 应用关闭前写回剩余的评论数
+     */
+    @PreDestroy
+    public void shutdownFlush() {
+        flush();
+    }
+
+    /**
+     * 将累计的评论数写回数据库，写库失败时增量放回缓冲区，下轮重试
+     */
+    public synchronized void flush() {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() >= batchSize) {
+                writeBatch(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+        log.debug("评论数写回完成，文章数: {}", deltas.size());
+    }
+
+    private void writeBatch(Map<Long, Long> batch) {
+        try {
+            articleMapper.batchAdjustCommentCount(batch);
+        } catch (Exception e) {
+            log.error("评论数写回失败，{} 篇文章的增量将在下次重试", batch.size(), e);
+            pending.addAll(batch);
+        }
+    }
+}
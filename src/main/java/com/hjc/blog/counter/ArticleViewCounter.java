@@ -0,0 +1,90 @@
+package com.hjc.blog.counter;
+
+import com.hjc.blog.mapper.ArticleMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 文章浏览量计数器
+ * 浏览量先在内存中累加，由定时任务批量写回数据库，避免每次浏览都更新 article 行
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleViewCounter {
+
+    private final ArticleMapper articleMapper;
+
+    private final DeltaBuffer pending = new DeltaBuffer();
+
+    /**
+     * 单条 UPDATE 语句最多合并的文章数
+     */
+    @Value("${blog.counter.view.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 记录一次浏览
+     *
+     * @param articleId 文章ID
+     */
+    public void increment(Long articleId) {
+        pending.add(articleId, 1);
+    }
+
+    /**
+     * 定时将累计的浏览量写回数据库
+     */
+    @Scheduled(fixedDelayString = "${blog.counter.view.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 应用关闭前写回剩余的浏览量
+     */
+    @PreDestroy
+    public void shutdownFlush() {
+        flush();
+    }
+
+    /**
+     * 将累计的浏览量写回数据库
+     * 写库失败时增量放回缓冲区，下轮重试
+     */
+    public synchronized void flush() {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() >= batchSize) {
+                writeBatch(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+        log.debug("浏览量写回完成，文章数: {}", deltas.size());
+    }
+
+    private void writeBatch(Map<Long, Long> batch) {
+        try {
+            articleMapper.batchIncrementViewCount(batch);
+        } catch (Exception e) {
+            log.error("浏览量写回失败，{} 篇文章的增量将在下次重试", batch.size(), e);
+            pending.addAll(batch);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.hjc.blog.counter;
+
+import com.hjc.blog.mapper.CategoryMapper;
+import com.hjc.blog.mapper.TagMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 分类、标签文章数计数器
+ * 默认在当前事务内直接执行原子 UPDATE；开启缓冲模式后，增量在事务提交后按分类/标签合并，由定时任务批量写回。
+ * 另有定时对账任务按 article、article_tag 重新统计，修正漂移的计数，并丢弃已被统计结果包含的缓冲增量。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTagCounter {
+
+    private final CategoryMapper categoryMapper;
+
+    private final TagMapper tagMapper;
+
+    private final DeltaBuffer pendingCategories = new DeltaBuffer();
+
+    private final DeltaBuffer pendingTags = new DeltaBuffer();
+
+    /**
+     * 是否开启缓冲模式
+     */
+    @Value("${blog.counter.article-count.buffered:false}")
+    private boolean buffered;
+
+    /**
+     * 调整分类文章数
+     *
+     * @param categoryId 分类ID
+     * @param delta      增量，可为负
+     */
+    public void adjustCategory(Long categoryId, int delta) {
+        if (categoryId == null || delta == 0) {
+            return;
+        }
+        if (buffered) {
+            bufferAfterCommit(pendingCategories, Map.of(categoryId, (long) delta));
+        } else {
+            categoryMapper.batchAdjustArticleCount(Map.of(categoryId, (long) delta));
+        }
+    }
+
+    /**
+     * 调整一组标签的文章数
+     *
+     * @param tagIds 标签ID集合
+     * @param delta  每个标签的增量，可为负
+     */
+    public void adjustTags(Collection<Long> tagIds, int delta) {
+        if (tagIds == null || tagIds.isEmpty() || delta == 0) {
+            return;
+        }
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        tagIds.forEach(tagId -> deltas.merge(tagId, (long) delta, Long::sum));
+        if (buffered) {
+            bufferAfterCommit(pendingTags, deltas);
+        } else {
+            tagMapper.batchAdjustArticleCount(deltas);
+        }
+    }
+
+    /**
+     * 定时将缓冲的增量写回数据库
+     */
+    @Scheduled(fixedDelayString = "${blog.counter.article-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 应用关闭前写回剩余的增量
+     */
+    @PreDestroy
+    public void shutdownFlush() {
+        flush();
+    }
+
+    /**
+     * 将缓冲的增量写回数据库，写库失败时增量放回缓冲区，下轮重试
+     */
+    public synchronized void flush() {
+        writeBack(pendingCategories, categoryMapper::batchAdjustArticleCount, "分类");
+        writeBack(pendingTags, tagMapper::batchAdjustArticleCount, "标签");
+    }
+
+    /**
+     * 定时对账：以一次 GROUP BY 重新统计全部分类和标签的文章数
+     * 缓冲区里只有已提交事务的增量，重新统计已包含这些变化，在同一把锁内取走丢弃，
+     * 不再写回，否则对账结果会被重复累加；对账失败时放回缓冲区
+     */
+    @Scheduled(cron = "${blog.counter.article-count.reconcile-cron:0 30 3 * * ?}")
+    public synchronized void reconcile() {
+        Integer categories = reconcile(pendingCategories, categoryMapper::reconcileArticleCount, "分类");
+        Integer tags = reconcile(pendingTags, tagMapper::reconcileArticleCount, "标签");
+        if (categories != null && tags != null) {
+            log.info("文章数对账完成，修正分类: {}, 修正标签: {}", categories, tags);
+        }
+    }
+
+    /**
+     * 事务提交后再计入缓冲区，回滚的事务不产生增量
+     */
+    private void bufferAfterCommit(DeltaBuffer pending, Map<Long, Long> deltas) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.addAll(deltas);
+                }
+            });
+        } else {
+            pending.addAll(deltas);
+        }
+    }
+
+    private Integer reconcile(DeltaBuffer pending, Supplier<Integer> reconciler, String name) {
+        Map<Long, Long> discarded = pending.drain();
+        try {
+            return reconciler.get();
+        } catch (Exception e) {
+            log.error("{}文章数对账失败", name, e);
+            pending.addAll(discarded);
+            return null;
+        }
+    }
+
+    private void writeBack(DeltaBuffer pending, Consumer<Map<Long, Long>> writer, String name) {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            writer.accept(deltas);
+            log.debug("{}文章数写回完成，条目数: {}", name, deltas.size());
+        } catch (Exception e) {
+            log.error("{}文章数写回失败，{} 条增量将在下次重试", name, deltas.size(), e);
+            pending.addAll(deltas);
+        }
+    }
+}
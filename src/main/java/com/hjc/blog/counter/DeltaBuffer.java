@@ -0,0 +1,64 @@
+package com.hjc.blog.counter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按ID合并的增量缓冲区
+ * 累加和取走都在 ConcurrentHashMap 的桶锁内完成：取走之后到达的增量会进入新条目，
+ * 不会加到已被取走的旧值上而丢失；合并后为 0 的条目直接移除。
+ */
+final class DeltaBuffer {
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 累加增量
+     *
+     * @param id    ID
+     * @param delta 增量，可为负
+     */
+    void add(Long id, long delta) {
+        if (delta != 0) {
+            pending.merge(id, delta, DeltaBuffer::sum);
+        }
+    }
+
+    /**
+     * 累加一组增量，写库失败时用于放回
+     *
+     * @param deltas ID -> 增量
+     */
+    void addAll(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    /**
+     * 取走全部增量
+     *
+     * @return ID -> 增量，不含 0
+     */
+    Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (Long id : pending.keySet()) {
+            Long delta = pending.remove(id);
+            if (delta != null) {
+                deltas.put(id, delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 是否没有待写回的增量
+     */
+    boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    private static Long sum(Long current, Long delta) {
+        long result = current + delta;
+        return result == 0 ? null : result;
+    }
+}
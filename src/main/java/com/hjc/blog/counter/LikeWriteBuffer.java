@@ -0,0 +1,166 @@
+package com.hjc.blog.counter;
+
+import com.hjc.blog.entity.LikeRecord;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.CommentMapper;
+import com.hjc.blog.mapper.LikeRecordMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 点赞写回缓冲区
+ * 点赞状态以 Redis 为准，这里只负责把状态变化和点赞数增量异步批量写回数据库：
+ * 同一用户对同一目标的多次切换只保留最后状态，通过 uk_user_target_type 幂等写入；
+ * 点赞数增量按目标合并后一条 UPDATE 批量调整。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeWriteBuffer {
+
+    /**
+     * 目标类型：文章
+     */
+    public static final int TARGET_ARTICLE = 1;
+
+    /**
+     * 目标类型：评论
+     */
+    public static final int TARGET_COMMENT = 2;
+
+    private final LikeRecordMapper likeRecordMapper;
+
+    private final ArticleMapper articleMapper;
+
+    private final CommentMapper commentMapper;
+
+    /**
+     * (用户, 目标) -> 最新状态
+     */
+    private final Map<LikeKey, Integer> pendingRecords = new ConcurrentHashMap<>();
+
+    private final DeltaBuffer pendingArticleCounts = new DeltaBuffer();
+
+    private final DeltaBuffer pendingCommentCounts = new DeltaBuffer();
+
+    /**
+     * 单条语句最多写入的记录数
+     */
+    @Value("${blog.like.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 记录一次点赞状态变化
+     *
+     * @param userId     用户ID
+     * @param targetId   目标ID
+     * @param targetType 目标类型：1-文章，2-评论
+     * @param liked      true-点赞，false-取消点赞
+     */
+    public void record(Long userId, Long targetId, Integer targetType, boolean liked) {
+        pendingRecords.put(new LikeKey(userId, targetId, targetType), liked ? 1 : 0);
+        DeltaBuffer counts = targetType == TARGET_ARTICLE ? pendingArticleCounts : pendingCommentCounts;
+        counts.add(targetId, liked ? 1 : -1);
+    }
+
+    /**
+     * 定时写回
+     */
+    @Scheduled(fixedDelayString = "${blog.like.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 应用关闭前写回剩余的数据
+     */
+    @PreDestroy
+    public void shutdownFlush() {
+        flush();
+    }
+
+    /**
+     * 将缓冲的点赞状态和点赞数增量写回数据库，写库失败的批次放回缓冲区，下轮重试
+     */
+    public synchronized void flush() {
+        flushRecords();
+        flushCounts(pendingArticleCounts, TARGET_ARTICLE);
+        flushCounts(pendingCommentCounts, TARGET_COMMENT);
+    }
+
+    private void flushRecords() {
+        List<LikeRecord> records = new ArrayList<>();
+        for (Map.Entry<LikeKey, Integer> entry : pendingRecords.entrySet()) {
+            // 只取走未被并发覆盖的状态，被覆盖的留到下一轮
+            if (pendingRecords.remove(entry.getKey(), entry.getValue())) {
+                records.add(entry.getKey().toRecord(entry.getValue()));
+            }
+        }
+        for (int from = 0; from < records.size(); from += batchSize) {
+            List<LikeRecord> batch = records.subList(from, Math.min(from + batchSize, records.size()));
+            try {
+                likeRecordMapper.batchUpsert(batch);
+            } catch (Exception e) {
+                log.error("点赞记录写回失败，{} 条记录将在下次重试", batch.size(), e);
+                // 期间已有新状态的以新状态为准
+                batch.forEach(record -> pendingRecords.putIfAbsent(
+                        new LikeKey(record.getUserId(), record.getTargetId(), record.getTargetType()),
+                        record.getStatus()));
+            }
+        }
+        if (!records.isEmpty()) {
+            log.debug("点赞记录写回完成，记录数: {}", records.size());
+        }
+    }
+
+    private void flushCounts(DeltaBuffer pending, int targetType) {
+        Map<Long, Long> deltas = pending.drain();
+
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() >= batchSize) {
+                writeCounts(pending, batch, targetType);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeCounts(pending, batch, targetType);
+        }
+    }
+
+    private void writeCounts(DeltaBuffer pending, Map<Long, Long> batch, int targetType) {
+        try {
+            if (targetType == TARGET_ARTICLE) {
+                articleMapper.batchAdjustLikeCount(batch);
+            } else {
+                commentMapper.batchAdjustLikeCount(batch);
+            }
+        } catch (Exception e) {
+            log.error("点赞数写回失败，{} 个目标的增量将在下次重试", batch.size(), e);
+            pending.addAll(batch);
+        }
+    }
+
+    private record LikeKey(Long userId, Long targetId, Integer targetType) {
+
+        LikeRecord toRecord(Integer status) {
+            LikeRecord record = new LikeRecord();
+            record.setUserId(userId);
+            record.setTargetId(targetId);
+            record.setTargetType(targetType);
+            record.setStatus(status);
+            return record;
+        }
+    }
+}
@@ -28,9 +28,6 @@ public class ArticleDto {
     @NotBlank(message = "文章内容不能为空")
     private String content;
 
-    @Schema(description = "渲染后的HTML内容")
-    private String contentHtml;
-
     @Schema(description = "分类ID", requiredMode = Schema.RequiredMode.REQUIRED)
     @NotNull(message = "分类不能为空")
     private Long categoryId;
@@ -3,6 +3,8 @@ package com.hjc.blog.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
+import java.util.List;
+
 /**
  * 文章查询DTO
  */
@@ -22,10 +24,16 @@ public class ArticleQueryDto {
     @Schema(description = "标签ID")
     private Long tagId;
 
+    @Schema(description = "标签ID列表（多标签筛选，最多10个）")
+    private List<Long> tagIds;
+
+    @Schema(description = "多标签匹配方式：any-包含任一标签，all-包含全部标签", defaultValue = "any")
+    private String tagMatch = "any";
+
     @Schema(description = "作者ID")
     private Long authorId;
 
-    @Schema(description = "关键词（标题/摘要）")
+    @Schema(description = "关键词（标题/正文全文检索）")
     private String keyword;
 
     @Schema(description = "状态：0-草稿，1-已发布，2-已下架")
@@ -37,9 +45,12 @@ public class ArticleQueryDto {
     @Schema(description = "是否精选")
     private Integer isFeatured;
 
-    @Schema(description = "排序字段", defaultValue = "createTime")
+    @Schema(description = "排序字段：createTime、publishTime、viewCount、likeCount、relevance（需配合关键词）、hot（热门榜，忽略筛选条件和置顶）", defaultValue = "createTime")
     private String orderBy = "createTime";
 
     @Schema(description = "是否升序", defaultValue = "false")
     private Boolean asc = false;
+
+    @Schema(description = "游标（游标分页时使用，取上一页返回的 nextCursor）")
+    private String cursor;
 }
@@ -0,0 +1,21 @@
+package com.hjc.blog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * 收藏DTO
+ */
+@Data
+@Schema(description = "收藏请求")
+public class CollectDto {
+
+    @Schema(description = "收藏夹名称，为空时放入默认收藏夹", defaultValue = "default")
+    @Size(max = 50, message = "收藏夹名称不能超过50个字符")
+    private String folderName;
+
+    @Schema(description = "备注")
+    @Size(max = 200, message = "备注不能超过200个字符")
+    private String remark;
+}
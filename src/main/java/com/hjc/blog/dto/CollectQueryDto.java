@@ -0,0 +1,21 @@
+package com.hjc.blog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 收藏查询DTO
+ */
+@Data
+@Schema(description = "收藏查询请求")
+public class CollectQueryDto {
+
+    @Schema(description = "每页大小", defaultValue = "10")
+    private Integer pageSize = 10;
+
+    @Schema(description = "收藏夹名称，为空时查询全部收藏")
+    private String folderName;
+
+    @Schema(description = "分页游标，取自上一页返回的 nextCursor，为空时从最新的收藏开始")
+    private String cursor;
+}
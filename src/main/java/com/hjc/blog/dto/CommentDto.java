@@ -0,0 +1,30 @@
+package com.hjc.blog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * 发表评论DTO
+ */
+@Data
+@Schema(description = "发表评论请求")
+public class CommentDto {
+
+    @Schema(description = "文章ID", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "文章ID不能为空")
+    private Long articleId;
+
+    @Schema(description = "回复的评论ID，发表一级评论时为空")
+    private Long parentId;
+
+    @Schema(description = "被回复用户ID，为空时默认为所回复评论的作者")
+    private Long replyToUserId;
+
+    @Schema(description = "评论内容", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "评论内容不能为空")
+    @Size(max = 1000, message = "评论内容不能超过1000个字符")
+    private String content;
+}
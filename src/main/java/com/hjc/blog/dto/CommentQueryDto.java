@@ -0,0 +1,21 @@
+package com.hjc.blog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 评论查询DTO
+ */
+@Data
+@Schema(description = "评论查询请求")
+public class CommentQueryDto {
+
+    @Schema(description = "每页大小", defaultValue = "10")
+    private Integer pageSize = 10;
+
+    @Schema(description = "分页游标，取自上一页返回的 nextCursor，为空时从第一条开始")
+    private String cursor;
+
+    @Schema(description = "每条一级评论预览的回复数（最多10条），仅查询评论列表时有效", defaultValue = "3")
+    private Integer replySize = 3;
+}
@@ -51,6 +51,11 @@ public class Article extends BaseEntity implements Serializable {
      */
     private String contentHtml;
 
+    /**
+     * 内容摘要（Markdown 与渲染规则版本的 SHA-256），用于判断是否需要重新渲染
+     */
+    private String contentHash;
+
     /**
      * 分类ID
      */
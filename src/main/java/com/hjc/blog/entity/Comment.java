@@ -57,7 +57,7 @@ public class Comment extends BaseEntity implements Serializable {
     private Integer likeCount;
 
     /**
-     * 状态：0-待审核，1-已通过，2-已拒绝
+     * 状态：0-待审核，1-已通过，2-已拒绝，3-待人工审核
      */
     private Integer status;
 
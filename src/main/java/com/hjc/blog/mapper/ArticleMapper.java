@@ -1,16 +1,35 @@
 package com.hjc.blog.mapper;
 
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.hjc.blog.entity.Article;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Map;
+
 /**
  * 文章Mapper接口
  */
 @Mapper
 public interface ArticleMapper extends BaseMapper<Article> {
 
+    /**
+     * 全文检索分页查询，按置顶、相关度排序
+     *
+     * @param page    分页参数
+     * @param wrapper 查询列及筛选条件（不含排序）
+     * @param keyword BOOLEAN MODE 查询串
+     * @return 分页结果
+     */
+    Page<Article> selectPageByRelevance(
+            Page<Article> page,
+            @Param(Constants.WRAPPER) Wrapper<Article> wrapper,
+            @Param("keyword") String keyword
+    );
+
     /**
      * 增加文章浏览量
      *
@@ -19,6 +38,14 @@ public interface ArticleMapper extends BaseMapper<Article> {
      */
     int incrementViewCount(@Param("articleId") Long articleId);
 
+    /**
+     * 批量增加文章浏览量
+     *
+     * @param deltas 文章ID -> 浏览量增量
+     * @return 影响行数
+     */
+    int batchIncrementViewCount(@Param("deltas") Map<Long, Long> deltas);
+
     /**
      * 增加文章点赞数
      *
@@ -35,6 +62,14 @@ public interface ArticleMapper extends BaseMapper<Article> {
      */
     int decrementLikeCount(@Param("articleId") Long articleId);
 
+    /**
+     * 批量调整文章点赞数（增量可为负，结果不小于 0）
+     *
+     * @param deltas 文章ID -> 点赞数增量
+     * @return 影响行数
+     */
+    int batchAdjustLikeCount(@Param("deltas") Map<Long, Long> deltas);
+
     /**
      * 增加文章评论数
      *
@@ -51,6 +86,14 @@ public interface ArticleMapper extends BaseMapper<Article> {
      */
     int decrementCommentCount(@Param("articleId") Long articleId);
 
+    /**
+     * 批量调整文章评论数（增量可为负，结果不小于 0）
+     *
+     * @param deltas 文章ID -> 评论数增量
+     * @return 影响行数
+     */
+    int batchAdjustCommentCount(@Param("deltas") Map<Long, Long> deltas);
+
     /**
      * 增加文章收藏数
      *
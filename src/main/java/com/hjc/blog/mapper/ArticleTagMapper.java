@@ -5,6 +5,7 @@ import com.hjc.blog.entity.ArticleTag;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -36,4 +37,30 @@ public interface ArticleTagMapper extends BaseMapper<ArticleTag> {
      * @return 文章ID列表
      */
     List<Long> selectArticleIdsByTagId(@Param("tagId") Long tagId);
+
+    /**
+     * 批量查询多篇文章的标签关联
+     *
+     * @param articleIds 文章ID集合
+     * @return 文章标签关联列表（articleId, tagId）
+     */
+    List<ArticleTag> selectByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 批量新增文章标签关联
+     *
+     * @param articleId 文章ID
+     * @param tagIds    标签ID集合
+     * @return 影响行数
+     */
+    int insertBatch(@Param("articleId") Long articleId, @Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 删除文章的指定标签关联
+     *
+     * @param articleId 文章ID
+     * @param tagIds    标签ID集合
+     * @return 影响行数
+     */
+    int deleteByArticleIdAndTagIds(@Param("articleId") Long articleId, @Param("tagIds") Collection<Long> tagIds);
 }
@@ -2,9 +2,13 @@ package com.hjc.blog.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.hjc.blog.entity.Collect;
+import com.hjc.blog.vo.CollectFolderVo;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 收藏Mapper接口
  */
@@ -30,4 +34,52 @@ public interface CollectMapper extends BaseMapper<Collect> {
      * @return 收藏数
      */
     Integer countByArticle(@Param("articleId") Long articleId);
+
+    /**
+     * 查询用户在给定文章中收藏了哪些
+     *
+     * @param userId     用户ID
+     * @param articleIds 文章ID集合
+     * @return 已收藏的文章ID
+     */
+    List<Long> selectCollectedArticleIds(
+            @Param("userId") Long userId,
+            @Param("articleIds") Collection<Long> articleIds
+    );
+
+    /**
+     * 恢复已取消的收藏，并更新收藏夹、备注和收藏时间
+     *
+     * @param collect 收藏信息（userId、articleId、folderName、remark）
+     * @return 影响行数，0 表示不存在已取消的收藏
+     */
+    int restoreDeleted(@Param("collect") Collect collect);
+
+    /**
+     * 新增收藏，已存在时忽略
+     *
+     * @param collect 收藏信息（userId、articleId、folderName、remark）
+     * @return 影响行数，0 表示已存在
+     */
+    int insertIgnore(@Param("collect") Collect collect);
+
+    /**
+     * 取消收藏
+     *
+     * @param userId    用户ID
+     * @param articleId 文章ID
+     * @return 影响行数，0 表示未收藏
+     */
+    int softDelete(
+            @Param("userId") Long userId,
+            @Param("articleId") Long articleId
+    );
+
+    /**
+     * 按收藏夹统计用户的收藏数
+     *
+     * @param userId 用户ID
+     * @return 收藏夹及收藏数
+     */
+    List<CollectFolderVo> selectFolderCounts(@Param("userId") Long userId);
 }
@@ -2,9 +2,14 @@ package com.hjc.blog.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.hjc.blog.entity.Comment;
+import com.hjc.blog.vo.CommentVo;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 评论Mapper接口
  */
@@ -26,4 +31,33 @@ public interface CommentMapper extends BaseMapper<Comment> {
      * @return 影响行数
      */
     int decrementLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 批量调整评论点赞数（增量可为负，结果不小于 0）
+     *
+     * @param deltas 评论ID -> 点赞数增量
+     * @return 影响行数
+     */
+    int batchAdjustLikeCount(@Param("deltas") Map<Long, Long> deltas);
+
+    /**
+     * 批量查询多条一级评论的回复预览
+     * 每条一级评论按时间顺序取前 limit 条已通过的回复
+     *
+     * @param parentIds 一级评论ID集合
+     * @param limit     每条评论的预览条数
+     * @return 回复列表，按一级评论分组、组内按时间顺序
+     */
+    List<CommentVo> selectReplyPreviews(
+            @Param("parentIds") Collection<Long> parentIds,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 批量统计一级评论的已通过回复数
+     *
+     * @param parentIds 一级评论ID集合
+     * @return 仅包含 parentId、replyCount 的列表，没有回复的评论不包含在结果中
+     */
+    List<CommentVo> selectReplyCounts(@Param("parentIds") Collection<Long> parentIds);
 }
@@ -5,6 +5,9 @@ import com.hjc.blog.entity.LikeRecord;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 点赞记录Mapper接口
  */
@@ -36,4 +39,38 @@ public interface LikeRecordMapper extends BaseMapper<LikeRecord> {
             @Param("targetId") Long targetId,
             @Param("targetType") Integer targetType
     );
+
+    /**
+     * 查询点赞了目标的用户ID
+     *
+     * @param targetId   目标ID
+     * @param targetType 目标类型
+     * @return 用户ID列表
+     */
+    List<Long> selectUserIdsByTarget(
+            @Param("targetId") Long targetId,
+            @Param("targetType") Integer targetType
+    );
+
+    /**
+     * 查询用户在给定目标中点赞了哪些
+     *
+     * @param userId     用户ID
+     * @param targetIds  目标ID集合
+     * @param targetType 目标类型
+     * @return 已点赞的目标ID
+     */
+    List<Long> selectLikedTargetIds(
+            @Param("userId") Long userId,
+            @Param("targetIds") Collection<Long> targetIds,
+            @Param("targetType") Integer targetType
+    );
+
+    /**
+     * 批量写入点赞状态，已存在的记录（uk_user_target_type）只更新状态
+     *
+     * @param records 点赞记录（userId、targetId、targetType、status）
+     * @return 影响行数
+     */
+    int batchUpsert(@Param("records") Collection<LikeRecord> records);
 }
@@ -3,10 +3,28 @@ package com.hjc.blog.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.hjc.blog.entity.Tag;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Map;
 
 /**
  * 标签Mapper接口
  */
 @Mapper
 public interface TagMapper extends BaseMapper<Tag> {
+
+    /**
+     * 批量调整文章数（增量可为负，结果不小于 0）
+     *
+     * @param deltas tagId -> 增量
+     * @return 影响行数
+     */
+    int batchAdjustArticleCount(@Param("deltas") Map<Long, Long> deltas);
+
+    /**
+     * 按实际数据重新统计文章数，仅更新与统计结果不一致的行
+     *
+     * @return 影响行数
+     */
+    int reconcileArticleCount();
 }
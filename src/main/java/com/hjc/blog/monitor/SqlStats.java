@@ -0,0 +1,105 @@
+package com.hjc.blog.monitor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 单个 HTTP 请求内的 SQL 统计：语句数、数据库耗时、返回行数及按语句ID的明细
+ * 由 {@link SqlStatsFilter} 在请求开始时绑定到当前线程，{@link SqlStatsInterceptor} 逐条累加；
+ * 定时任务、异步线程中执行的语句没有绑定统计，不计入任何请求。
+ * 同一请求只在一个线程中处理，不做同步。
+ */
+public final class SqlStats {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, StatementStats> statements = new HashMap<>();
+
+    private int count;
+
+    private long nanos;
+
+    private long rows;
+
+    /**
+     * 为当前线程开始一次统计
+     */
+    static SqlStats begin() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 结束当前线程的统计
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 当前线程正在进行的统计，没有时返回 null
+     */
+    static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 累加一条语句
+     *
+     * @param statementId 语句ID，如 ArticleMapper.selectById
+     * @param nanos       执行耗时
+     * @param rows        查询返回行数或更新影响行数
+     */
+    void record(String statementId, long nanos, long rows) {
+        this.count++;
+        this.nanos += nanos;
+        this.rows += Math.max(rows, 0);
+        statements.computeIfAbsent(statementId, k -> new StatementStats()).add(nanos);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public long getMillis() {
+        return nanos / 1_000_000;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * 按执行次数从多到少列出语句，重复执行的语句通常就是 N+1 查询
+     *
+     * @param limit 最多列出的语句数
+     */
+    public String summary(int limit) {
+        List<Map.Entry<String, StatementStats>> sorted = statements.entrySet().stream()
+                .sorted((a, b) -> Integer.compare(b.getValue().count, a.getValue().count))
+                .limit(limit)
+                .toList();
+        return sorted.stream()
+                .map(e -> e.getKey() + " ×" + e.getValue().count + " (" + e.getValue().nanos / 1_000_000 + " ms)")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static final class StatementStats {
+
+        private int count;
+
+        private long nanos;
+
+        void add(long nanos) {
+            this.count++;
+            this.nanos += nanos;
+        }
+    }
+}
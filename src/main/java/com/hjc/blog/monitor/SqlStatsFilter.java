@@ -0,0 +1,119 @@
+package com.hjc.blog.monitor;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求级 SQL 统计过滤器
+ * 排在安全过滤器之前，认证阶段的查询也计入；请求结束后按接口记录指标，按配置写入响应头，
+ * 语句数超出预算时打印执行次数最多的语句，便于定位 N+1 查询。
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_COUNT = "X-Sql-Count";
+
+    public static final String HEADER_TIME = "X-Sql-Time-Ms";
+
+    public static final String HEADER_ROWS = "X-Sql-Rows";
+
+    /**
+     * 超出预算时最多列出的语句数
+     */
+    private static final int SUMMARY_LIMIT = 10;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.sql-stats.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 是否把统计写入响应头，需要缓存响应体，建议只在开发环境打开
+     */
+    @Value("${blog.sql-stats.expose-headers:false}")
+    private boolean exposeHeaders;
+
+    /**
+     * 单个请求的语句数预算，超出时打印告警，小于等于 0 时不检查
+     */
+    @Value("${blog.sql-stats.query-budget:20}")
+    private int queryBudget;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStats stats = SqlStats.begin();
+        // 响应头必须在提交前写入，缓存响应体直到统计完成
+        ContentCachingResponseWrapper wrapper = exposeHeaders ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            SqlStats.end();
+            record(request, stats);
+            if (wrapper != null) {
+                wrapper.setHeader(HEADER_COUNT, String.valueOf(stats.getCount()));
+                wrapper.setHeader(HEADER_TIME, String.valueOf(stats.getMillis()));
+                wrapper.setHeader(HEADER_ROWS, String.valueOf(stats.getRows()));
+                wrapper.copyBodyToResponse();
+            }
+            if (queryBudget > 0 && stats.getCount() > queryBudget) {
+                log.warn("请求 SQL 语句数超出预算，{} {}，语句数: {}（预算 {}），耗时: {} ms，行数: {}，明细: {}",
+                        request.getMethod(), request.getRequestURI(), stats.getCount(), queryBudget,
+                        stats.getMillis(), stats.getRows(), stats.summary(SUMMARY_LIMIT));
+            }
+        }
+    }
+
+    /**
+     * 按请求方法和接口路径模板记录语句数、行数和数据库耗时
+     */
+    private void record(HttpServletRequest request, SqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        DistributionSummary.builder("blog.sql.request.statements")
+                .description("单个请求执行的 SQL 语句数")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getCount());
+        DistributionSummary.builder("blog.sql.request.rows")
+                .description("单个请求读取或影响的行数")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("blog.sql.request.time")
+                .description("单个请求的 SQL 累计耗时")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,83 @@
+package com.hjc.blog.monitor;
+
+import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 统计拦截器
+ * 拦截 StatementHandler 的执行方法，每条真正发往数据库的语句（含分页插件生成的 count 语句）计一次，
+ * 耗时只含执行和取结果，不含连接获取和预编译。
+ * 所有语句按语句ID记录耗时指标（blog.sql.statement）；处于 HTTP 请求中的语句另计入请求级统计。
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "batch", args = {Statement.class})
+})
+public class SqlStatsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 语句ID -> 耗时指标，避免每条语句都重新查找
+     */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public SqlStatsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object result = invocation.proceed();
+        long elapsed = System.nanoTime() - start;
+
+        String statementId = statementId(invocation);
+        timers.computeIfAbsent(statementId, this::timer).record(elapsed, TimeUnit.NANOSECONDS);
+
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            long rows = 0;
+            if (result instanceof List<?> list) {
+                rows = list.size();
+            } else if (result instanceof Integer updated) {
+                rows = updated;
+            }
+            stats.record(statementId, elapsed, rows);
+        }
+        return result;
+    }
+
+    private Timer timer(String statementId) {
+        return Timer.builder("blog.sql.statement")
+                .description("SQL 语句执行耗时")
+                .tag("statement", statementId)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 去掉包名的语句ID，如 ArticleMapper.selectById
+     */
+    private String statementId(Invocation invocation) {
+        MappedStatement ms = PluginUtils.mpStatementHandler((StatementHandler) invocation.getTarget()).mappedStatement();
+        String id = ms.getId();
+        int method = id.lastIndexOf('.');
+        int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? id.substring(type + 1) : id;
+    }
+}
@@ -1,13 +1,18 @@
 package com.hjc.blog.security.filter;
 
+import com.hjc.blog.security.jwt.JwtClaims;
+import com.hjc.blog.security.jwt.TokenRevocationRegistry;
 import com.hjc.blog.security.service.CustomUserDetailsService;
 import com.hjc.blog.security.user.BlogUserDetails;
 import com.hjc.blog.common.utils.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,6 +36,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Token 解析耗时，含缓存命中
+     */
+    private Timer parseTimer;
+
+    /**
+     * 无状态模式：直接用 Token 声明构建用户信息，不再逐请求查库
+     * 禁用账号、修改密码等场景通过 TokenRevocationRegistry 吊销旧 Token
+     */
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    @Override
+    protected void initFilterBean() {
+        parseTimer = Timer.builder("blog.jwt.parse")
+                .description("请求 Token 解析验签耗时")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -41,23 +67,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             // 获取token
             String token = extractTokenFromRequest(request);
-            // 验证token是否有效
-            if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
-                Long userId = jwtUtil.getUserIdFromToken(token);
-                String username = jwtUtil.getUsernameFromToken(token);
+            // 验证token是否有效（一次验签取出全部声明）
+            JwtClaims claims = StringUtils.hasText(token) ? parseTimer.record(() -> jwtUtil.parse(token)) : null;
+            if (claims != null) {
+                Long userId = claims.getUserId();
+                String username = claims.getUsername();
                 // 设置security 上下文用户信息
                 if (userId != null && username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    BlogUserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    BlogUserDetails userDetails = loadUserDetails(claims);
+                    if (userDetails != null) {
+                        UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(
+                                        userDetails,
+                                        null,
+                                        userDetails.getAuthorities()
+                                );
 
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
-
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 }
             }
         } catch (Exception e) {
@@ -67,6 +95,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 加载用户信息
+     * 无状态模式下由声明直接构建，Token 已被吊销时返回 null
+     *
+     * @param claims 已验签的声明
+     * @return BlogUserDetails
+     */
+    private BlogUserDetails loadUserDetails(JwtClaims claims) {
+        if (statelessPrincipal && claims.getRole() != null) {
+            if (tokenRevocationRegistry.isRevoked(claims)) {
+                return null;
+            }
+            // Token 只签发给启用的账号，禁用账号时会吊销其全部 Token，未被吊销即视为启用
+            return new BlogUserDetails(claims.getUserId(), claims.getUsername(), null, claims.getRole(), true);
+        }
+        return userDetailsService.loadUserByUsername(claims.getUsername());
+    }
+
     /**
      * 从请求头中提取 Token
      *
@@ -0,0 +1,46 @@
+package com.hjc.blog.security.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 已验签的 JWT 声明
+ */
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+
+    /**
+     * 用户ID
+     */
+    private final Long userId;
+
+    /**
+     * 用户名
+     */
+    private final String username;
+
+    /**
+     * 角色
+     */
+    private final String role;
+
+    /**
+     * 签发时间，毫秒精度；旧 Token 只有秒级的 iat
+     */
+    private final Date issuedAt;
+
+    /**
+     * 过期时间
+     */
+    private final Date expiration;
+
+    /**
+     * 是否已过期
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
@@ -0,0 +1,96 @@
+package com.hjc.blog.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token 吊销登记表
+ * 记录每个用户的吊销时间点，签发时间早于该时间点的 Token 一律视为失效。
+ * 本地内存保存一份副本用于 O(1) 检查，Redis 哈希用于多实例间同步。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry {
+
+    private static final String REDIS_KEY = "blog:auth:revoked";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 用户ID -> 吊销时间（毫秒时间戳）
+     */
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    /**
+     * Token 有效期，超过该时长的吊销记录不再需要保留
+     */
+    @Value("${jwt.expiration:604800000}")
+    private Long expiration;
+
+    /**
+     * 吊销用户此前签发的全部 Token（禁用账号、修改密码或角色时调用）
+     *
+     * @param userId 用户ID
+     */
+    public void revoke(Long userId) {
+        // Token 携带毫秒精度的签发时间，吊销之后同一秒内重新登录拿到的 Token 不受影响
+        long revokedAt = System.currentTimeMillis();
+        revokedBefore.merge(userId, revokedAt, Math::max);
+        try {
+            stringRedisTemplate.opsForHash().put(REDIS_KEY, userId.toString(), Long.toString(revokedAt));
+        } catch (Exception e) {
+            log.warn("同步Token吊销记录到Redis失败，用户ID: {}", userId, e);
+        }
+        log.info("已吊销用户Token，用户ID: {}", userId);
+    }
+
+    /**
+     * 判断 Token 是否已被吊销
+     *
+     * @param claims 已验签的声明
+     * @return true-已吊销
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        Long revokedAt = revokedBefore.get(claims.getUserId());
+        if (revokedAt == null) {
+            return false;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || issuedAt.getTime() < revokedAt;
+    }
+
+    /**
+     * 定时从 Redis 拉取其他实例的吊销记录，并清理已无意义的过期记录
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        long expiredBefore = System.currentTimeMillis() - expiration;
+        Map<Long, Long> latest = new HashMap<>();
+        try {
+            for (Map.Entry<Object, Object> entry : stringRedisTemplate.opsForHash().entries(REDIS_KEY).entrySet()) {
+                Long userId = Long.valueOf(entry.getKey().toString());
+                long revokedAt = Long.parseLong(entry.getValue().toString());
+                if (revokedAt < expiredBefore) {
+                    stringRedisTemplate.opsForHash().delete(REDIS_KEY, entry.getKey());
+                } else {
+                    latest.put(userId, revokedAt);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("从Redis拉取Token吊销记录失败", e);
+            return;
+        }
+        latest.forEach((userId, revokedAt) -> revokedBefore.merge(userId, revokedAt, Math::max));
+        revokedBefore.entrySet().removeIf(entry -> entry.getValue() < expiredBefore);
+    }
+}
@@ -6,7 +6,11 @@ import com.hjc.blog.dto.ArticleQueryDto;
 import com.hjc.blog.dto.ArticleDto;
 import com.hjc.blog.entity.Article;
 import com.hjc.blog.vo.ArticleListVo;
+import com.hjc.blog.vo.ArticleUserFlagsVo;
 import com.hjc.blog.vo.ArticleVo;
+import com.hjc.blog.vo.CursorPageVo;
+
+import java.util.Collection;
 
 /**
  * 文章服务接口
@@ -53,9 +57,28 @@ public interface ArticleService extends IService<Article> {
      * 分页查询文章列表
      *
      * @param request 查询请求
+     * @param userId  当前用户ID，登录时补充点赞、收藏状态，未登录传 null
      * @return 分页结果
      */
-    Page<ArticleListVo> listArticles(ArticleQueryDto request);
+    Page<ArticleListVo> listArticles(ArticleQueryDto request, Long userId);
+
+    /**
+     * 游标分页查询文章列表（不查询总数，适用于无限滚动）
+     *
+     * @param request 查询请求，cursor 为空时从第一条开始
+     * @param userId  当前用户ID，登录时补充点赞、收藏状态，未登录传 null
+     * @return 游标分页结果
+     */
+    CursorPageVo<ArticleListVo> listArticlesByCursor(ArticleQueryDto request, Long userId);
+
+    /**
+     * 批量查询用户对一组文章的点赞、收藏状态，每类状态固定一次查询
+     *
+     * @param userId     用户ID
+     * @param articleIds 文章ID集合
+     * @return 已点赞、已收藏的文章ID
+     */
+    ArticleUserFlagsVo getUserFlags(Long userId, Collection<Long> articleIds);
 
     /**
      * 发布草稿
@@ -90,4 +113,18 @@ public interface ArticleService extends IService<Article> {
      * @param isFeatured 是否精选
      */
     void setFeatured(Long id, Integer isFeatured);
+
+    /**
+     * 后台批量重新渲染文章内容（仅处理内容或渲染规则有变化的文章）
+     *
+     * @return true-已启动，false-已有任务在执行
+     */
+    boolean rerenderArticles();
+
+    /**
+     * 重新计算热门文章榜
+     *
+     * @return 上榜文章数
+     */
+    int refreshHotRanking();
 }
@@ -0,0 +1,51 @@
+package com.hjc.blog.service;
+
+import com.baomidou.mybatisplus.extension.service.IService;
+import com.hjc.blog.dto.CollectDto;
+import com.hjc.blog.dto.CollectQueryDto;
+import com.hjc.blog.entity.Collect;
+import com.hjc.blog.vo.CollectFolderVo;
+import com.hjc.blog.vo.CollectVo;
+import com.hjc.blog.vo.CursorPageVo;
+
+import java.util.List;
+
+/**
+ * 收藏服务接口
+ */
+public interface CollectService extends IService<Collect> {
+
+    /**
+     * 收藏文章，已收藏时不产生任何变化
+     *
+     * @param userId    用户ID
+     * @param articleId 文章ID
+     * @param request   收藏请求
+     */
+    void collect(Long userId, Long articleId, CollectDto request);
+
+    /**
+     * 取消收藏，未收藏时不产生任何变化
+     *
+     * @param userId    用户ID
+     * @param articleId 文章ID
+     */
+    void uncollect(Long userId, Long articleId);
+
+    /**
+     * 游标分页查询用户的收藏，按收藏时间倒序
+     *
+     * @param userId  用户ID
+     * @param request 查询请求，可按收藏夹筛选
+     * @return 游标分页结果
+     */
+    CursorPageVo<CollectVo> listCollects(Long userId, CollectQueryDto request);
+
+    /**
+     * 查询用户的收藏夹及各收藏夹的收藏数
+     *
+     * @param userId 用户ID
+     * @return 收藏夹列表
+     */
+    List<CollectFolderVo> listFolders(Long userId);
+}
@@ -0,0 +1,54 @@
+package com.hjc.blog.service;
+
+import com.baomidou.mybatisplus.extension.service.IService;
+import com.hjc.blog.dto.CommentDto;
+import com.hjc.blog.dto.CommentQueryDto;
+import com.hjc.blog.entity.Comment;
+import com.hjc.blog.vo.CommentSubmitVo;
+import com.hjc.blog.vo.CommentVo;
+import com.hjc.blog.vo.CursorPageVo;
+
+/**
+ * 评论服务接口
+ */
+public interface CommentService extends IService<Comment> {
+
+    /**
+     * 游标分页查询文章的一级评论（最新在前），每条附带回复预览
+     * 查询次数固定，与分页大小和回复数量无关
+     *
+     * @param articleId 文章ID
+     * @param request   查询请求
+     * @return 游标分页结果
+     */
+    CursorPageVo<CommentVo> listComments(Long articleId, CommentQueryDto request);
+
+    /**
+     * 游标分页查询一级评论下的回复（按时间顺序）
+     *
+     * @param parentId 一级评论ID
+     * @param request  查询请求，cursor 可取自评论列表返回的 repliesCursor
+     * @return 游标分页结果
+     */
+    CursorPageVo<CommentVo> listReplies(Long parentId, CommentQueryDto request);
+
+    /**
+     * 发表评论
+     * 评论以待审核状态落库后立即返回，审核和文章评论数更新由审核队列异步完成
+     *
+     * @param request   评论请求
+     * @param userId    评论用户ID
+     * @param ip        客户端IP
+     * @param userAgent 用户代理
+     * @return 评论ID和当前状态
+     */
+    CommentSubmitVo submitComment(CommentDto request, Long userId, String ip, String userAgent);
+
+    /**
+     * 人工审核评论
+     *
+     * @param id     评论ID
+     * @param status 审核结果：1-通过，2-拒绝
+     */
+    void auditComment(Long id, Integer status);
+}
@@ -0,0 +1,55 @@
+package com.hjc.blog.service;
+
+import com.baomidou.mybatisplus.extension.service.IService;
+import com.hjc.blog.entity.LikeRecord;
+import com.hjc.blog.vo.LikeVo;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 点赞服务接口
+ */
+public interface LikeService extends IService<LikeRecord> {
+
+    /**
+     * 点赞，重复点赞不会重复计数
+     *
+     * @param userId     用户ID
+     * @param targetId   目标ID
+     * @param targetType 目标类型：1-文章，2-评论
+     * @return 点赞后的状态
+     */
+    LikeVo like(Long userId, Long targetId, Integer targetType);
+
+    /**
+     * 取消点赞，未点赞时不产生任何变化
+     *
+     * @param userId     用户ID
+     * @param targetId   目标ID
+     * @param targetType 目标类型：1-文章，2-评论
+     * @return 取消后的状态
+     */
+    LikeVo unlike(Long userId, Long targetId, Integer targetType);
+
+    /**
+     * 查询点赞状态
+     *
+     * @param userId     用户ID
+     * @param targetId   目标ID
+     * @param targetType 目标类型：1-文章，2-评论
+     * @return 点赞状态
+     */
+    LikeVo getLikeStatus(Long userId, Long targetId, Integer targetType);
+
+    /**
+     * 批量查询用户点赞了哪些目标
+     * 已加载到 Redis 的目标通过一次管道查询判断，其余目标合并为一次数据库查询
+     *
+     * @param userId     用户ID
+     * @param targetIds  目标ID集合
+     * @param targetType 目标类型：1-文章，2-评论
+     * @return 已点赞的目标ID
+     */
+    Set<Long> listLikedTargetIds(Long userId, Collection<Long> targetIds, Integer targetType);
+}
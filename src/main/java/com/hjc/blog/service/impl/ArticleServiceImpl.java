@@ -5,8 +5,17 @@ import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.hjc.blog.cache.ArticleDetailCache;
+import com.hjc.blog.cache.ArticleFeedCache;
+import com.hjc.blog.cache.HotArticleRanking;
+import com.hjc.blog.cache.ReferenceDataCache;
 import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.counter.ArticleViewCounter;
+import com.hjc.blog.counter.CategoryTagCounter;
+import com.hjc.blog.counter.LikeWriteBuffer;
 import com.hjc.blog.common.result.ResultCodeEnum;
+import com.hjc.blog.common.utils.CursorUtil;
+import com.hjc.blog.common.utils.MarkdownUtil;
 import com.hjc.blog.dto.ArticleQueryDto;
 import com.hjc.blog.dto.ArticleDto;
 import com.hjc.blog.entity.Article;
@@ -17,11 +26,16 @@ import com.hjc.blog.entity.User;
 import com.hjc.blog.mapper.ArticleMapper;
 import com.hjc.blog.mapper.ArticleTagMapper;
 import com.hjc.blog.mapper.CategoryMapper;
+import com.hjc.blog.mapper.CollectMapper;
 import com.hjc.blog.mapper.TagMapper;
-import com.hjc.blog.mapper.UserMapper;
 import com.hjc.blog.service.ArticleService;
+import com.hjc.blog.service.LikeService;
+import com.hjc.blog.task.ArticleRenderTask;
 import com.hjc.blog.vo.ArticleListVo;
+import com.hjc.blog.vo.ArticleUserFlagsVo;
 import com.hjc.blog.vo.ArticleVo;
+import com.hjc.blog.vo.CursorPageVo;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
@@ -32,16 +46,43 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 文章服务实现类
+ * 公开方法按方法名记录耗时（blog.article.service）
  */
 @Slf4j
 @Service
+@Timed(value = "blog.article.service", description = "文章服务方法耗时")
 public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> implements ArticleService {
 
+    /**
+     * 游标分页单页最大条数
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * 单次查询最多筛选的标签数
+     */
+    private static final int MAX_FILTER_TAGS = 10;
+
+    /**
+     * 热门排序
+     */
+    private static final String ORDER_BY_HOT = "hot";
+
     @Resource
     private ArticleTagMapper articleTagMapper;
 
@@ -52,7 +93,34 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
     private TagMapper tagMapper;
 
     @Resource
-    private UserMapper userMapper;
+    private ReferenceDataCache referenceDataCache;
+
+    @Resource
+    private ArticleDetailCache articleDetailCache;
+
+    @Resource
+    private ArticleViewCounter articleViewCounter;
+
+    @Resource
+    private CategoryTagCounter categoryTagCounter;
+
+    @Resource
+    private CollectMapper collectMapper;
+
+    @Resource
+    private LikeService likeService;
+
+    @Resource
+    private MarkdownUtil markdownUtil;
+
+    @Resource
+    private ArticleRenderTask articleRenderTask;
+
+    @Resource
+    private HotArticleRanking hotArticleRanking;
+
+    @Resource
+    private ArticleFeedCache articleFeedCache;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -74,6 +142,9 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         article.setIsTop(0);
         article.setIsFeatured(0);
 
+        // 服务端渲染 Markdown
+        renderContent(article);
+
         // 如果是发布状态，设置发布时间
         if (request.getStatus() != null && request.getStatus() == 1) {
             article.setPublishTime(LocalDateTime.now());
@@ -82,12 +153,15 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         save(article);
 
         // 处理标签关联
-        if (!CollectionUtils.isEmpty(request.getTagIds())) {
-            saveArticleTags(article.getId(), request.getTagIds());
-        }
+        syncArticleTags(article.getId(), request.getTagIds(), Collections.emptyList());
 
         // 更新分类文章数
-        updateCategoryArticleCount(request.getCategoryId(), 1);
+        categoryTagCounter.adjustCategory(request.getCategoryId(), 1);
+
+        // 只有直接发布的文章会出现在首页
+        if (article.getStatus() != null && article.getStatus() == 1) {
+            articleFeedCache.rebuild(this::loadFeed);
+        }
 
         log.info("发布文章成功，文章ID: {}, 作者ID: {}", article.getId(), authorId);
         return article.getId();
@@ -113,6 +187,13 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         BeanUtils.copyProperties(request, article);
         article.setId(id);
 
+        // 内容有变化才重新渲染；未变化时不回写正文和HTML大字段
+        if (!renderContent(article)) {
+            article.setContent(null);
+            article.setContentHtml(null);
+            article.setContentHash(null);
+        }
+
         // 如果从草稿变为发布，设置发布时间
         if (request.getStatus() != null && request.getStatus() == 1 && article.getPublishTime() == null) {
             article.setPublishTime(LocalDateTime.now());
@@ -120,18 +201,17 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
 
         updateById(article);
 
-        // 更新标签关联：先删除旧的，再添加新的
-        articleTagMapper.deleteByArticleId(id);
-        if (!CollectionUtils.isEmpty(request.getTagIds())) {
-            saveArticleTags(id, request.getTagIds());
-        }
+        // 更新标签关联：只增删有变化的部分
+        syncArticleTags(id, request.getTagIds(), articleTagMapper.selectTagIdsByArticleId(id));
 
         // 如果分类变更，更新分类文章数
         if (!oldCategoryId.equals(request.getCategoryId())) {
-            updateCategoryArticleCount(oldCategoryId, -1);
-            updateCategoryArticleCount(request.getCategoryId(), 1);
+            categoryTagCounter.adjustCategory(oldCategoryId, -1);
+            categoryTagCounter.adjustCategory(request.getCategoryId(), 1);
         }
 
+        articleDetailCache.evict(id);
+        articleFeedCache.rebuild(this::loadFeed);
         log.info("更新文章成功，文章ID: {}", id);
     }
 
@@ -144,98 +224,215 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         checkPermission(article, userId, isAdmin);
 
         // 删除文章标签关联
+        List<Long> tagIds = articleTagMapper.selectTagIdsByArticleId(id);
         articleTagMapper.deleteByArticleId(id);
 
         // 删除文章
         removeById(id);
 
-        // 更新分类文章数
-        updateCategoryArticleCount(article.getCategoryId(), -1);
+        // 更新分类、标签文章数
+        categoryTagCounter.adjustCategory(article.getCategoryId(), -1);
+        categoryTagCounter.adjustTags(tagIds, -1);
 
+        articleDetailCache.evict(id);
+        articleFeedCache.rebuild(this::loadFeed);
+        hotArticleRanking.remove(id);
         log.info("删除文章成功，文章ID: {}", id);
     }
 
     @Override
     public ArticleVo getArticleDetail(Long id) {
-        Article article = getAndCheckArticle(id);
+        // 优先读缓存，未命中再查库并回填
+        ArticleVo vo = articleDetailCache.get(id);
+        if (vo == null) {
+            Article article = getAndCheckArticle(id);
+            vo = convertToVO(article);
+            articleDetailCache.put(vo);
+        }
 
-        // 增加浏览量
-        baseMapper.incrementViewCount(id);
+        // 增加浏览量（异步批量写回）
+        articleViewCounter.increment(id);
 
-        return convertToVO(article);
+        return vo;
     }
 
     @Override
-    public Page<ArticleListVo> listArticles(ArticleQueryDto request) {
+    public Page<ArticleListVo> listArticles(ArticleQueryDto request, Long userId) {
+        if (useHotSnapshot(request)) {
+            // 热门榜直接读本地快照，不查库
+            int size = Math.max(1, request.getPageSize());
+            int offset = (Math.max(1, request.getPageNum()) - 1) * size;
+            Page<ArticleListVo> voPage = new Page<>(request.getPageNum(), size, hotArticleRanking.total());
+            voPage.setRecords(hotArticleRanking.page(offset, size));
+            fillUserFlags(voPage.getRecords(), userId);
+            return voPage;
+        }
+
+        // 默认首页查询走快照，其余查询直接查库
+        ArticleFeedCache.FeedKey feedKey = articleFeedCache.keyOf(request);
+        Page<ArticleListVo> voPage = feedKey != null
+                ? articleFeedCache.get(feedKey, this::loadFeed)
+                : queryArticlePage(request);
+        fillUserFlags(voPage.getRecords(), userId);
+        return voPage;
+    }
+
+    /**
+     * 是否直接读取热门榜快照
+     * 快照只包含全站已发布文章，带任何筛选条件时走数据库按点赞数排序
+     */
+    private boolean useHotSnapshot(ArticleQueryDto request) {
+        return ORDER_BY_HOT.equals(request.getOrderBy())
+                && !Boolean.TRUE.equals(request.getAsc())
+                && request.getCategoryId() == null
+                && request.getTagId() == null
+                && CollectionUtils.isEmpty(request.getTagIds())
+                && request.getAuthorId() == null
+                && !StringUtils.hasText(request.getKeyword())
+                && (request.getStatus() == null || request.getStatus() == 1)
+                && request.getIsTop() == null
+                && request.getIsFeatured() == null
+                && hotArticleRanking.isReady();
+    }
+
+    /**
+     * 查库加载首页快照
+     */
+    private Page<ArticleListVo> loadFeed(ArticleFeedCache.FeedKey key) {
+        return queryArticlePage(key.toQuery());
+    }
+
+    /**
+     * 分页查询文章列表（不含用户相关字段）
+     */
+    private Page<ArticleListVo> queryArticlePage(ArticleQueryDto request) {
         Page<Article> page = new Page<>(request.getPageNum(), request.getPageSize());
 
-        LambdaQueryWrapper<Article> wrapper = new LambdaQueryWrapper<>();
+        LambdaQueryWrapper<Article> wrapper = buildFilterWrapper(request);
 
-        // 分类筛选
-        if (request.getCategoryId() != null) {
-            wrapper.eq(Article::getCategoryId, request.getCategoryId());
+        String fulltextKeyword = toBooleanModeKeyword(request.getKeyword());
+        Page<Article> articlePage;
+        if (fulltextKeyword != null && "relevance".equals(request.getOrderBy())) {
+            // 按相关度排序：排序子句在 XML 中拼接，自定义 SQL 不会自动追加逻辑删除条件
+            wrapper.eq(Article::getIsDeleted, 0);
+            articlePage = baseMapper.selectPageByRelevance(page, wrapper, fulltextKeyword);
+        } else {
+            // 排序：置顶优先，然后按指定字段排序
+            wrapper.orderByDesc(Article::getIsTop);
+            wrapper.orderBy(true, request.getAsc(), resolveOrderColumn(request.getOrderBy()));
+
+            articlePage = page(page, wrapper);
         }
 
-        // 标签筛选
-        if (request.getTagId() != null) {
-            List<Long> articleIds = articleTagMapper.selectArticleIdsByTagId(request.getTagId());
-            if (CollectionUtils.isEmpty(articleIds)) {
-                return new Page<>(request.getPageNum(), request.getPageSize());
-            }
-            wrapper.in(Article::getId, articleIds);
+        // 转换为VO
+        Page<ArticleListVo> voPage = new Page<>(articlePage.getCurrent(), articlePage.getSize(), articlePage.getTotal());
+        voPage.setRecords(convertToListVOs(articlePage.getRecords()));
+
+        return voPage;
+    }
+
+    @Override
+    public CursorPageVo<ArticleListVo> listArticlesByCursor(ArticleQueryDto request, Long userId) {
+        int size = Math.max(1, Math.min(request.getPageSize(), MAX_CURSOR_PAGE_SIZE));
+
+        if (useHotSnapshot(request)) {
+            return listHotArticlesByCursor(request.getCursor(), size, userId);
         }
 
-        // 作者筛选
-        if (request.getAuthorId() != null) {
-            wrapper.eq(Article::getAuthorId, request.getAuthorId());
+        LambdaQueryWrapper<Article> wrapper = buildFilterWrapper(request);
+
+        String orderBy = request.getOrderBy();
+        boolean asc = Boolean.TRUE.equals(request.getAsc());
+        SFunction<Article, ?> orderColumnFn = resolveOrderColumn(orderBy);
+        if ("publishTime".equals(orderBy)) {
+            // 排序键不能为 NULL，否则无法比较游标位置
+            wrapper.isNotNull(Article::getPublishTime);
         }
 
-        // 关键词搜索
-        if (StringUtils.hasText(request.getKeyword())) {
+        // 从上一页最后一行之后继续：(is_top, 排序键, id) 严格位于游标之后
+        if (StringUtils.hasText(request.getCursor())) {
+            String[] parts = CursorUtil.decode(request.getCursor(), 3);
+            Integer isTop;
+            Object sortValue;
+            Long id;
+            try {
+                isTop = Integer.valueOf(parts[0]);
+                sortValue = parseSortValue(orderBy, parts[1]);
+                id = Long.valueOf(parts[2]);
+            } catch (RuntimeException e) {
+                throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "游标格式错误");
+            }
             wrapper.and(w -> w
-                    .like(Article::getTitle, request.getKeyword())
-                    .or()
-                    .like(Article::getSummary, request.getKeyword())
+                    .lt(Article::getIsTop, isTop)
+                    .or(top -> top
+                            .eq(Article::getIsTop, isTop)
+                            .and(sort -> {
+                                if (asc) {
+                                    sort.gt(orderColumnFn, sortValue)
+                                            .or(tie -> tie.eq(orderColumnFn, sortValue).gt(Article::getId, id));
+                                } else {
+                                    sort.lt(orderColumnFn, sortValue)
+                                            .or(tie -> tie.eq(orderColumnFn, sortValue).lt(Article::getId, id));
+                                }
+                            })
+                    )
             );
         }
 
-        // 状态筛选
-        if (request.getStatus() != null) {
-            wrapper.eq(Article::getStatus, request.getStatus());
-        } else {
-            // 默认只显示已发布的文章
-            wrapper.eq(Article::getStatus, 1);
-        }
+        wrapper.orderByDesc(Article::getIsTop)
+                .orderBy(true, asc, orderColumnFn)
+                .orderBy(true, asc, Article::getId)
+                .last("LIMIT " + (size + 1));
 
-        // 置顶筛选
-        if (request.getIsTop() != null) {
-            wrapper.eq(Article::getIsTop, request.getIsTop());
+        // 多取一行判断是否还有下一页，不执行 COUNT
+        List<Article> articles = list(wrapper);
+        boolean hasMore = articles.size() > size;
+        if (hasMore) {
+            articles = articles.subList(0, size);
         }
 
-        // 精选筛选
-        if (request.getIsFeatured() != null) {
-            wrapper.eq(Article::getIsFeatured, request.getIsFeatured());
+        String nextCursor = null;
+        if (hasMore) {
+            Article last = articles.get(articles.size() - 1);
+            nextCursor = CursorUtil.encode(last.getIsTop(), resolveSortValue(orderBy, last), last.getId());
         }
+        List<ArticleListVo> records = convertToListVOs(articles);
+        fillUserFlags(records, userId);
+        return new CursorPageVo<>(records, nextCursor, hasMore);
+    }
 
-        // 排序：置顶优先，然后按指定字段排序
-        wrapper.orderByDesc(Article::getIsTop);
-        SFunction<Article, ?> orderColumnFn = switch (request.getOrderBy()) {
-            case "publishTime" -> Article::getPublishTime;
-            case "viewCount" -> Article::getViewCount;
-            case "likeCount" -> Article::getLikeCount;
-            default -> Article::getCreateTime;
-        };
-        wrapper.orderBy(true, request.getAsc(), orderColumnFn);
-
-        Page<Article> articlePage = page(page, wrapper);
+    /**
+     * 游标分页读取热门榜，游标为榜单内的位置
+     */
+    private CursorPageVo<ArticleListVo> listHotArticlesByCursor(String cursor, int size, Long userId) {
+        int offset = 0;
+        if (StringUtils.hasText(cursor)) {
+            String[] parts = CursorUtil.decode(cursor, 2);
+            try {
+                if (!ORDER_BY_HOT.equals(parts[0])) {
+                    throw new IllegalArgumentException();
+                }
+                offset = Integer.parseInt(parts[1]);
+            } catch (RuntimeException e) {
+                throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "游标格式错误");
+            }
+        }
 
-        // 转换为VO
-        Page<ArticleListVo> voPage = new Page<>(articlePage.getCurrent(), articlePage.getSize(), articlePage.getTotal());
-        voPage.setRecords(articlePage.getRecords().stream()
-                .map(this::convertToListVO)
-                .toList());
+        List<ArticleListVo> records = hotArticleRanking.page(offset, size);
+        boolean hasMore = offset + records.size() < hotArticleRanking.total();
+        String nextCursor = hasMore ? CursorUtil.encode(ORDER_BY_HOT, offset + records.size()) : null;
+        fillUserFlags(records, userId);
+        return new CursorPageVo<>(records, nextCursor, hasMore);
+    }
 
-        return voPage;
+    @Override
+    public ArticleUserFlagsVo getUserFlags(Long userId, Collection<Long> articleIds) {
+        if (userId == null || CollectionUtils.isEmpty(articleIds)) {
+            return new ArticleUserFlagsVo(Collections.emptySet(), Collections.emptySet());
+        }
+        Set<Long> likedIds = likeService.listLikedTargetIds(userId, articleIds, LikeWriteBuffer.TARGET_ARTICLE);
+        Set<Long> collectedIds = new HashSet<>(collectMapper.selectCollectedArticleIds(userId, articleIds));
+        return new ArticleUserFlagsVo(likedIds, collectedIds);
     }
 
     @Override
@@ -256,6 +453,8 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
                 .set(Article::getPublishTime, article.getPublishTime() == null ? LocalDateTime.now() : article.getPublishTime());
 
         update(wrapper);
+        articleDetailCache.evict(id);
+        articleFeedCache.rebuild(this::loadFeed);
         log.info("发布文章成功，文章ID: {}", id);
     }
 
@@ -276,6 +475,9 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
                 .set(Article::getStatus, 2);
 
         update(wrapper);
+        articleDetailCache.evict(id);
+        articleFeedCache.rebuild(this::loadFeed);
+        hotArticleRanking.remove(id);
         log.info("下架文章成功，文章ID: {}", id);
     }
 
@@ -289,6 +491,8 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
                 .set(Article::getIsTop, isTop);
 
         update(wrapper);
+        articleDetailCache.evict(id);
+        articleFeedCache.rebuild(this::loadFeed);
         log.info("设置文章置顶状态，文章ID: {}, 是否置顶: {}", id, isTop);
     }
 
@@ -302,9 +506,171 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
                 .set(Article::getIsFeatured, isFeatured);
 
         update(wrapper);
+        articleDetailCache.evict(id);
+        articleFeedCache.rebuild(this::loadFeed);
         log.info("设置文章精选状态，文章ID: {}, 是否精选: {}", id, isFeatured);
     }
 
+    @Override
+    public int refreshHotRanking() {
+        return hotArticleRanking.refresh(ids -> {
+            LambdaQueryWrapper<Article> wrapper = buildFilterWrapper(new ArticleQueryDto());
+            wrapper.in(Article::getId, ids);
+            return convertToListVOs(list(wrapper));
+        });
+    }
+
+    @Override
+    public boolean rerenderArticles() {
+        boolean started = articleRenderTask.start();
+        log.info(started ? "已启动文章批量渲染" : "文章批量渲染正在执行中");
+        return started;
+    }
+
+    /**
+     * 构建列表查询条件：列表投影列及筛选条件（不含排序）
+     *
+     * @param request 查询请求
+     * @return 查询条件
+     */
+    private LambdaQueryWrapper<Article> buildFilterWrapper(ArticleQueryDto request) {
+        LambdaQueryWrapper<Article> wrapper = new LambdaQueryWrapper<>();
+
+        // 只查询列表展示需要的列，不加载 content / content_html 大字段
+        wrapper.select(
+                Article::getId,
+                Article::getTitle,
+                Article::getSummary,
+                Article::getCoverImage,
+                Article::getCategoryId,
+                Article::getAuthorId,
+                Article::getViewCount,
+                Article::getLikeCount,
+                Article::getCommentCount,
+                Article::getCollectCount,
+                Article::getIsTop,
+                Article::getIsFeatured,
+                Article::getIsOriginal,
+                Article::getStatus,
+                Article::getPublishTime,
+                Article::getCreateTime
+        );
+
+        // 分类筛选
+        if (request.getCategoryId() != null) {
+            wrapper.eq(Article::getCategoryId, request.getCategoryId());
+        }
+
+        // 标签筛选：EXISTS 子查询走 article_tag 索引，不再把文章ID展开成 IN 列表
+        Set<Long> tagIds = new LinkedHashSet<>();
+        if (request.getTagId() != null) {
+            tagIds.add(request.getTagId());
+        }
+        if (!CollectionUtils.isEmpty(request.getTagIds())) {
+            request.getTagIds().stream().filter(Objects::nonNull).forEach(tagIds::add);
+        }
+        if (tagIds.size() > MAX_FILTER_TAGS) {
+            throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "标签筛选最多支持" + MAX_FILTER_TAGS + "个");
+        }
+        if (tagIds.size() > 1 && "all".equals(request.getTagMatch())) {
+            // 同时包含全部标签：每个标签一个 EXISTS，均走 uk_article_tag 唯一索引
+            for (Long tagId : tagIds) {
+                wrapper.exists("SELECT 1 FROM article_tag atg WHERE atg.article_id = article.id AND atg.tag_id = {0}", tagId);
+            }
+        } else if (!tagIds.isEmpty()) {
+            // 包含任一标签
+            List<Long> tagIdList = new ArrayList<>(tagIds);
+            String placeholders = IntStream.range(0, tagIdList.size())
+                    .mapToObj(i -> "{" + i + "}")
+                    .collect(Collectors.joining(", "));
+            wrapper.exists("SELECT 1 FROM article_tag atg WHERE atg.article_id = article.id AND atg.tag_id IN (" + placeholders + ")",
+                    tagIdList.toArray());
+        }
+
+        // 作者筛选
+        if (request.getAuthorId() != null) {
+            wrapper.eq(Article::getAuthorId, request.getAuthorId());
+        }
+
+        // 关键词搜索：使用 ft_title_content 全文索引（ngram）
+        String fulltextKeyword = toBooleanModeKeyword(request.getKeyword());
+        if (fulltextKeyword != null) {
+            wrapper.apply("MATCH (title, content) AGAINST ({0} IN BOOLEAN MODE)", fulltextKeyword);
+        }
+
+        // 状态筛选
+        if (request.getStatus() != null) {
+            wrapper.eq(Article::getStatus, request.getStatus());
+        } else {
+            // 默认只显示已发布的文章
+            wrapper.eq(Article::getStatus, 1);
+        }
+
+        // 置顶筛选
+        if (request.getIsTop() != null) {
+            wrapper.eq(Article::getIsTop, request.getIsTop());
+        }
+
+        // 精选筛选
+        if (request.getIsFeatured() != null) {
+            wrapper.eq(Article::getIsFeatured, request.getIsFeatured());
+        }
+
+        return wrapper;
+    }
+
+    /**
+     * 解析排序字段
+     */
+    private SFunction<Article, ?> resolveOrderColumn(String orderBy) {
+        return switch (orderBy) {
+            case "publishTime" -> Article::getPublishTime;
+            case "viewCount" -> Article::getViewCount;
+            case "likeCount", ORDER_BY_HOT -> Article::getLikeCount;
+            default -> Article::getCreateTime;
+        };
+    }
+
+    /**
+     * 取文章的排序键值，用于生成游标
+     */
+    private Object resolveSortValue(String orderBy, Article article) {
+        return switch (orderBy) {
+            case "publishTime" -> article.getPublishTime();
+            case "viewCount" -> article.getViewCount();
+            case "likeCount", ORDER_BY_HOT -> article.getLikeCount();
+            default -> article.getCreateTime();
+        };
+    }
+
+    /**
+     * 将游标中的排序键还原为对应类型
+     */
+    private Object parseSortValue(String orderBy, String value) {
+        return switch (orderBy) {
+            case "viewCount", "likeCount", ORDER_BY_HOT -> Integer.valueOf(value);
+            default -> LocalDateTime.parse(value);
+        };
+    }
+
+    /**
+     * 将用户输入的关键词转换为 BOOLEAN MODE 查询串
+     * 去掉全文检索操作符，每个词都要求命中（+词）
+     *
+     * @param keyword 原始关键词
+     * @return 查询串，无有效关键词返回 null
+     */
+    private String toBooleanModeKeyword(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        String booleanKeyword = Arrays.stream(keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+"))
+                .filter(StringUtils::hasText)
+                .map(term -> "+" + term)
+                .collect(Collectors.joining(" "));
+        return booleanKeyword.isEmpty() ? null : booleanKeyword;
+    }
+
     /**
      * 获取文章并检查是否存在
      */
@@ -316,6 +682,22 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         return article;
     }
 
+    /**
+     * 渲染文章内容，内容摘要未变化且已有渲染结果时跳过
+     *
+     * @param article 文章
+     * @return true-已重新渲染，false-内容未变化
+     */
+    private boolean renderContent(Article article) {
+        String hash = markdownUtil.hash(article.getContent());
+        if (hash.equals(article.getContentHash()) && article.getContentHtml() != null) {
+            return false;
+        }
+        article.setContentHtml(markdownUtil.render(article.getContent()));
+        article.setContentHash(hash);
+        return true;
+    }
+
     /**
      * 检查操作权限
      */
@@ -326,32 +708,35 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
     }
 
     /**
-     * 保存文章标签关联
+     * 同步文章标签关联
+     * 一次查询校验全部标签，与现有关联比对后只新增、删除有变化的部分，并同步标签文章数
+     *
+     * @param articleId       文章ID
+     * @param requestedTagIds 请求的标签ID，不存在或已禁用的标签会被忽略
+     * @param existingTagIds  文章当前已关联的标签ID
      */
-    private void saveArticleTags(Long articleId, List<Long> tagIds) {
-        for (Long tagId : tagIds) {
+    private void syncArticleTags(Long articleId, List<Long> requestedTagIds, List<Long> existingTagIds) {
+        Set<Long> targetTagIds = new LinkedHashSet<>();
+        if (!CollectionUtils.isEmpty(requestedTagIds)) {
             // 验证标签是否存在
-            Tag tag = tagMapper.selectById(tagId);
-            if (tag != null && tag.getStatus() == 1) {
-                ArticleTag articleTag = new ArticleTag();
-                articleTag.setArticleId(articleId);
-                articleTag.setTagId(tagId);
-                articleTag.setCreateTime(LocalDateTime.now());
-                articleTagMapper.insert(articleTag);
+            for (Tag tag : tagMapper.selectByIds(new LinkedHashSet<>(requestedTagIds))) {
+                if (tag.getStatus() == 1) {
+                    targetTagIds.add(tag.getId());
+                }
             }
         }
-    }
 
-    /**
-     * 更新分类文章数
-     */
-    private void updateCategoryArticleCount(Long categoryId, int delta) {
-        Category category = categoryMapper.selectById(categoryId);
-        if (category != null) {
-            LambdaUpdateWrapper<Category> wrapper = new LambdaUpdateWrapper<>();
-            wrapper.eq(Category::getId, categoryId)
-                    .set(Category::getArticleCount, Math.max(0, (category.getArticleCount() == null ? 0 : category.getArticleCount()) + delta));
-            categoryMapper.update(null, wrapper);
+        Set<Long> existing = new HashSet<>(existingTagIds);
+        List<Long> added = targetTagIds.stream().filter(tagId -> !existing.contains(tagId)).toList();
+        List<Long> removed = existing.stream().filter(tagId -> !targetTagIds.contains(tagId)).toList();
+
+        if (!removed.isEmpty()) {
+            articleTagMapper.deleteByArticleIdAndTagIds(articleId, removed);
+            categoryTagCounter.adjustTags(removed, -1);
+        }
+        if (!added.isEmpty()) {
+            articleTagMapper.insertBatch(articleId, added);
+            categoryTagCounter.adjustTags(added, 1);
         }
     }
 
@@ -363,77 +748,110 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         BeanUtils.copyProperties(article, vo);
 
         // 设置分类名称
-        if (article.getCategoryId() != null) {
-            Category category = categoryMapper.selectById(article.getCategoryId());
-            if (category != null) {
-                vo.setCategoryName(category.getName());
-            }
+        Category category = referenceDataCache.getCategory(article.getCategoryId());
+        if (category != null) {
+            vo.setCategoryName(category.getName());
         }
 
         // 设置标签信息
         List<Long> tagIds = articleTagMapper.selectTagIdsByArticleId(article.getId());
         vo.setTagIds(tagIds);
         if (!CollectionUtils.isEmpty(tagIds)) {
-            List<String> tagNames = new ArrayList<>();
-            for (Long tagId : tagIds) {
-                Tag tag = tagMapper.selectById(tagId);
-                if (tag != null) {
-                    tagNames.add(tag.getName());
-                }
-            }
-            vo.setTagNames(tagNames);
+            Map<Long, Tag> tagMap = referenceDataCache.getTags(tagIds);
+            vo.setTagNames(tagIds.stream()
+                    .map(tagMap::get)
+                    .filter(Objects::nonNull)
+                    .map(Tag::getName)
+                    .toList());
         }
 
         // 设置作者信息
-        if (article.getAuthorId() != null) {
-            User author = userMapper.selectById(article.getAuthorId());
-            if (author != null) {
-                vo.setAuthorName(author.getNickname() != null ? author.getNickname() : author.getUsername());
-                vo.setAuthorAvatar(author.getAvatar());
-            }
+        User author = referenceDataCache.getAuthor(article.getAuthorId());
+        if (author != null) {
+            vo.setAuthorName(author.getNickname() != null ? author.getNickname() : author.getUsername());
+            vo.setAuthorAvatar(author.getAvatar());
         }
 
         return vo;
     }
 
     /**
-     * 转换为列表VO
+     * 为登录用户补充列表中每篇文章的点赞、收藏状态
      */
-    private ArticleListVo convertToListVO(Article article) {
-        ArticleListVo vo = new ArticleListVo();
-        BeanUtils.copyProperties(article, vo);
+    private void fillUserFlags(List<ArticleListVo> records, Long userId) {
+        if (userId == null || records.isEmpty()) {
+            return;
+        }
+        ArticleUserFlagsVo flags = getUserFlags(userId, records.stream().map(ArticleListVo::getId).toList());
+        for (ArticleListVo vo : records) {
+            vo.setLiked(flags.getLikedIds().contains(vo.getId()));
+            vo.setCollected(flags.getCollectedIds().contains(vo.getId()));
+        }
+    }
 
-        // 设置分类名称
-        if (article.getCategoryId() != null) {
-            Category category = categoryMapper.selectById(article.getCategoryId());
+    /**
+     * 批量转换为列表VO
+     * 标签关联用一次 IN 查询解析，分类、标签、作者走本地缓存，查询次数与分页大小无关
+     */
+    private List<ArticleListVo> convertToListVOs(List<Article> articles) {
+        if (CollectionUtils.isEmpty(articles)) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> articleIds = new HashSet<>();
+        Set<Long> categoryIds = new HashSet<>();
+        Set<Long> authorIds = new HashSet<>();
+        for (Article article : articles) {
+            articleIds.add(article.getId());
+            if (article.getCategoryId() != null) {
+                categoryIds.add(article.getCategoryId());
+            }
+            if (article.getAuthorId() != null) {
+                authorIds.add(article.getAuthorId());
+            }
+        }
+
+        // 分类、标签、作者均从本地缓存批量读取，未命中的部分合并为一次 IN 查询
+        Map<Long, Category> categoryMap = referenceDataCache.getCategories(categoryIds);
+
+        Map<Long, List<Long>> articleTagIdsMap = new HashMap<>();
+        for (ArticleTag articleTag : articleTagMapper.selectByArticleIds(articleIds)) {
+            articleTagIdsMap.computeIfAbsent(articleTag.getArticleId(), k -> new ArrayList<>()).add(articleTag.getTagId());
+        }
+        Set<Long> tagIds = articleTagIdsMap.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        Map<Long, Tag> tagMap = referenceDataCache.getTags(tagIds);
+
+        Map<Long, User> authorMap = referenceDataCache.getAuthors(authorIds);
+
+        List<ArticleListVo> voList = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            ArticleListVo vo = new ArticleListVo();
+            BeanUtils.copyProperties(article, vo);
+
+            Category category = article.getCategoryId() == null ? null : categoryMap.get(article.getCategoryId());
             if (category != null) {
                 vo.setCategoryName(category.getName());
             }
-        }
 
-        // 设置标签信息
-        List<Long> tagIds = articleTagMapper.selectTagIdsByArticleId(article.getId());
-        vo.setTagIds(tagIds);
-        if (!CollectionUtils.isEmpty(tagIds)) {
-            List<String> tagNames = new ArrayList<>();
-            for (Long tagId : tagIds) {
-                Tag tag = tagMapper.selectById(tagId);
-                if (tag != null) {
-                    tagNames.add(tag.getName());
-                }
+            List<Long> articleTagIds = articleTagIdsMap.getOrDefault(article.getId(), new ArrayList<>());
+            vo.setTagIds(articleTagIds);
+            if (!articleTagIds.isEmpty()) {
+                vo.setTagNames(articleTagIds.stream()
+                        .map(tagMap::get)
+                        .filter(Objects::nonNull)
+                        .map(Tag::getName)
+                        .toList());
             }
-            vo.setTagNames(tagNames);
-        }
 
-        // 设置作者信息
-        if (article.getAuthorId() != null) {
-            User author = userMapper.selectById(article.getAuthorId());
+            User author = article.getAuthorId() == null ? null : authorMap.get(article.getAuthorId());
             if (author != null) {
                 vo.setAuthorName(author.getNickname() != null ? author.getNickname() : author.getUsername());
                 vo.setAuthorAvatar(author.getAvatar());
             }
+            voList.add(vo);
         }
-
-        return vo;
+        return voList;
     }
 }
@@ -9,6 +9,7 @@ import com.hjc.blog.entity.User;
 import com.hjc.blog.vo.LoginVo;
 import com.hjc.blog.service.AuthService;
 import com.hjc.blog.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,6 +32,9 @@ public class AuthServiceImpl implements AuthService {
     @Resource
     private JwtUtil jwtUtil;
 
+    @Resource
+    private MeterRegistry meterRegistry;
+
     @Override
     public LoginVo login(LoginDto request, String ip) {
         String username = request.getUsername();
@@ -47,8 +51,11 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessException(ResultCodeEnum.USER_NOT_EXIST);
         }
 
-        // 验证密码
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 验证密码（BCrypt 是登录耗时的主要部分，单独计时）
+        String encodedPassword = user.getPassword();
+        Boolean matched = meterRegistry.timer("blog.auth.password.verify")
+                .record(() -> passwordEncoder.matches(request.getPassword(), encodedPassword));
+        if (!Boolean.TRUE.equals(matched)) {
             throw new BusinessException(ResultCodeEnum.USER_PASSWORD_ERROR);
         }
 
@@ -0,0 +1,178 @@
+package com.hjc.blog.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.hjc.blog.cache.CollectFolderCache;
+import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.common.result.ResultCodeEnum;
+import com.hjc.blog.common.utils.CursorUtil;
+import com.hjc.blog.dto.CollectDto;
+import com.hjc.blog.dto.CollectQueryDto;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.entity.Collect;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.CollectMapper;
+import com.hjc.blog.service.CollectService;
+import com.hjc.blog.vo.CollectFolderVo;
+import com.hjc.blog.vo.CollectVo;
+import com.hjc.blog.vo.CursorPageVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 收藏服务实现类
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CollectServiceImpl extends ServiceImpl<CollectMapper, Collect> implements CollectService {
+
+    /**
+     * 默认收藏夹
+     */
+    private static final String DEFAULT_FOLDER = "default";
+
+    /**
+     * 游标分页每页最大条数
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CollectMapper collectMapper;
+
+    private final ArticleMapper articleMapper;
+
+    private final CollectFolderCache collectFolderCache;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void collect(Long userId, Long articleId, CollectDto request) {
+        // 只能收藏已发布的文章
+        Long count = articleMapper.selectCount(new LambdaQueryWrapper<Article>()
+                .eq(Article::getId, articleId)
+                .eq(Article::getStatus, 1));
+        if (count == 0) {
+            throw new BusinessException(ResultCodeEnum.DATA_NOT_EXIST);
+        }
+
+        Collect collect = new Collect();
+        collect.setUserId(userId);
+        collect.setArticleId(articleId);
+        collect.setFolderName(request != null && StringUtils.hasText(request.getFolderName())
+                ? request.getFolderName().trim() : DEFAULT_FOLDER);
+        collect.setRemark(request != null ? request.getRemark() : null);
+
+        // 先恢复曾取消的收藏，再尝试新增；两者都未生效说明已收藏
+        boolean changed = collectMapper.restoreDeleted(collect) > 0 || collectMapper.insertIgnore(collect) > 0;
+        if (!changed) {
+            return;
+        }
+
+        articleMapper.incrementCollectCount(articleId);
+        collectFolderCache.evict(userId);
+        log.info("收藏文章成功，用户ID: {}, 文章ID: {}", userId, articleId);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void uncollect(Long userId, Long articleId) {
+        if (collectMapper.softDelete(userId, articleId) == 0) {
+            return;
+        }
+
+        articleMapper.decrementCollectCount(articleId);
+        collectFolderCache.evict(userId);
+        log.info("取消收藏成功，用户ID: {}, 文章ID: {}", userId, articleId);
+    }
+
+    @Override
+    public CursorPageVo<CollectVo> listCollects(Long userId, CollectQueryDto request) {
+        int size = Math.max(1, Math.min(request.getPageSize(), MAX_PAGE_SIZE));
+
+        LambdaQueryWrapper<Collect> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(Collect::getUserId, userId)
+                .eq(StringUtils.hasText(request.getFolderName()), Collect::getFolderName, request.getFolderName());
+
+        // 从上一页最后一行之后继续：(create_time, id) 严格小于游标
+        if (StringUtils.hasText(request.getCursor())) {
+            String[] parts = CursorUtil.decode(request.getCursor(), 2);
+            LocalDateTime createTime;
+            Long id;
+            try {
+                createTime = LocalDateTime.parse(parts[0]);
+                id = Long.valueOf(parts[1]);
+            } catch (RuntimeException e) {
+                throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "游标格式错误");
+            }
+            wrapper.and(w -> w
+                    .lt(Collect::getCreateTime, createTime)
+                    .or(tie -> tie.eq(Collect::getCreateTime, createTime).lt(Collect::getId, id))
+            );
+        }
+
+        wrapper.orderByDesc(Collect::getCreateTime)
+                .orderByDesc(Collect::getId)
+                .last("LIMIT " + (size + 1));
+
+        // 多取一行判断是否还有下一页，不执行 COUNT
+        List<Collect> collects = list(wrapper);
+        boolean hasMore = collects.size() > size;
+        if (hasMore) {
+            collects = collects.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Collect last = collects.get(collects.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreateTime(), last.getId());
+        }
+        return new CursorPageVo<>(convertToVOs(collects), nextCursor, hasMore);
+    }
+
+    @Override
+    public List<CollectFolderVo> listFolders(Long userId) {
+        List<CollectFolderVo> folders = collectFolderCache.get(userId);
+        if (folders == null) {
+            folders = collectMapper.selectFolderCounts(userId);
+            collectFolderCache.put(userId, folders);
+        }
+        return folders;
+    }
+
+    /**
+     * 批量转换为VO，文章信息用一次 IN 查询补全
+     */
+    private List<CollectVo> convertToVOs(List<Collect> collects) {
+        if (collects.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        LambdaQueryWrapper<Article> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(Article::getId, Article::getTitle, Article::getSummary, Article::getCoverImage)
+                .in(Article::getId, collects.stream().map(Collect::getArticleId).collect(Collectors.toSet()));
+        Map<Long, Article> articleMap = articleMapper.selectList(wrapper).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+
+        return collects.stream().map(collect -> {
+            CollectVo vo = new CollectVo();
+            BeanUtils.copyProperties(collect, vo);
+            Article article = articleMap.get(collect.getArticleId());
+            if (article != null) {
+                vo.setArticleTitle(article.getTitle());
+                vo.setArticleSummary(article.getSummary());
+                vo.setArticleCoverImage(article.getCoverImage());
+            }
+            return vo;
+        }).toList();
+    }
+}
@@ -0,0 +1,299 @@
+package com.hjc.blog.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.hjc.blog.cache.ReferenceDataCache;
+import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.common.result.ResultCodeEnum;
+import com.hjc.blog.common.utils.CursorUtil;
+import com.hjc.blog.dto.CommentDto;
+import com.hjc.blog.dto.CommentQueryDto;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.entity.Comment;
+import com.hjc.blog.entity.User;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.CommentMapper;
+import com.hjc.blog.service.CommentService;
+import com.hjc.blog.task.CommentModerationQueue;
+import com.hjc.blog.task.CommentModerator;
+import com.hjc.blog.vo.CommentSubmitVo;
+import com.hjc.blog.vo.CommentVo;
+import com.hjc.blog.vo.CursorPageVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 评论服务实现类
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> implements CommentService {
+
+    /**
+     * 游标分页每页最大条数
+     */
+    private static final int MAX_PAGE_SIZE = 50;
+
+    /**
+     * 每条一级评论最多预览的回复数
+     */
+    private static final int MAX_REPLY_PREVIEW = 10;
+
+    private final CommentMapper commentMapper;
+
+    private final ArticleMapper articleMapper;
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private final CommentModerationQueue commentModerationQueue;
+
+    @Override
+    public CursorPageVo<CommentVo> listComments(Long articleId, CommentQueryDto request) {
+        int size = Math.max(1, Math.min(request.getPageSize(), MAX_PAGE_SIZE));
+        int replySize = Math.max(0, Math.min(request.getReplySize(), MAX_REPLY_PREVIEW));
+
+        LambdaQueryWrapper<Comment> wrapper = buildListWrapper();
+        wrapper.eq(Comment::getArticleId, articleId)
+                .isNull(Comment::getParentId);
+
+        // 一级评论最新在前：(create_time, id) 严格小于游标
+        Cursor cursor = decodeCursor(request.getCursor());
+        if (cursor != null) {
+            wrapper.and(w -> w
+                    .lt(Comment::getCreateTime, cursor.createTime())
+                    .or(tie -> tie.eq(Comment::getCreateTime, cursor.createTime()).lt(Comment::getId, cursor.id()))
+            );
+        }
+        wrapper.orderByDesc(Comment::getCreateTime)
+                .orderByDesc(Comment::getId)
+                .last("LIMIT " + (size + 1));
+
+        List<Comment> comments = list(wrapper);
+        boolean hasMore = comments.size() > size;
+        if (hasMore) {
+            comments = comments.subList(0, size);
+        }
+        List<CommentVo> records = comments.stream().map(this::convertToVO).toList();
+
+        if (replySize > 0) {
+            fillReplyPreviews(records, replySize);
+        }
+        fillUsers(records);
+
+        String nextCursor = null;
+        if (hasMore) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreateTime(), last.getId());
+        }
+        return new CursorPageVo<>(records, nextCursor, hasMore);
+    }
+
+    @Override
+    public CursorPageVo<CommentVo> listReplies(Long parentId, CommentQueryDto request) {
+        int size = Math.max(1, Math.min(request.getPageSize(), MAX_PAGE_SIZE));
+
+        LambdaQueryWrapper<Comment> wrapper = buildListWrapper();
+        wrapper.eq(Comment::getParentId, parentId);
+
+        // 回复按时间顺序：(create_time, id) 严格大于游标
+        Cursor cursor = decodeCursor(request.getCursor());
+        if (cursor != null) {
+            wrapper.and(w -> w
+                    .gt(Comment::getCreateTime, cursor.createTime())
+                    .or(tie -> tie.eq(Comment::getCreateTime, cursor.createTime()).gt(Comment::getId, cursor.id()))
+            );
+        }
+        wrapper.orderByAsc(Comment::getCreateTime)
+                .orderByAsc(Comment::getId)
+                .last("LIMIT " + (size + 1));
+
+        List<Comment> replies = list(wrapper);
+        boolean hasMore = replies.size() > size;
+        if (hasMore) {
+            replies = replies.subList(0, size);
+        }
+        List<CommentVo> records = replies.stream().map(this::convertToVO).toList();
+        fillUsers(records);
+
+        String nextCursor = null;
+        if (hasMore) {
+            Comment last = replies.get(replies.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreateTime(), last.getId());
+        }
+        return new CursorPageVo<>(records, nextCursor, hasMore);
+    }
+
+    @Override
+    public CommentSubmitVo submitComment(CommentDto request, Long userId, String ip, String userAgent) {
+        Long articleCount = articleMapper.selectCount(new LambdaQueryWrapper<Article>()
+                .eq(Article::getId, request.getArticleId())
+                .eq(Article::getStatus, 1));
+        if (articleCount == 0) {
+            throw new BusinessException(ResultCodeEnum.DATA_NOT_EXIST.getCode(), "文章不存在");
+        }
+
+        Comment comment = new Comment();
+        comment.setArticleId(request.getArticleId());
+        comment.setUserId(userId);
+        comment.setContent(request.getContent().trim());
+        comment.setLikeCount(0);
+        comment.setStatus(CommentModerator.PENDING);
+        comment.setIpAddress(truncate(ip, 50));
+        comment.setUserAgent(truncate(userAgent, 500));
+
+        if (request.getParentId() != null) {
+            LambdaQueryWrapper<Comment> wrapper = new LambdaQueryWrapper<>();
+            wrapper.select(Comment::getId, Comment::getArticleId, Comment::getUserId, Comment::getParentId)
+                    .eq(Comment::getId, request.getParentId())
+                    .eq(Comment::getStatus, CommentModerator.APPROVED);
+            Comment parent = commentMapper.selectOne(wrapper);
+            if (parent == null || !parent.getArticleId().equals(request.getArticleId())) {
+                throw new BusinessException(ResultCodeEnum.DATA_NOT_EXIST.getCode(), "回复的评论不存在");
+            }
+            // 被回复人就是被回复评论的作者，不信任客户端传入的值
+            if (request.getReplyToUserId() != null && !request.getReplyToUserId().equals(parent.getUserId())) {
+                throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "被回复用户与评论作者不一致");
+            }
+            // 只保留两级：回复的回复挂到同一条一级评论下
+            comment.setParentId(parent.getParentId() != null ? parent.getParentId() : parent.getId());
+            comment.setReplyToUserId(parent.getUserId());
+        }
+
+        // 只写评论表，不锁文章行；审核通过后评论数由计数器合并写回
+        commentMapper.insert(comment);
+        commentModerationQueue.submit(comment.getId());
+        log.debug("评论已提交审核，评论ID: {}, 文章ID: {}, 用户ID: {}", comment.getId(), comment.getArticleId(), userId);
+        return new CommentSubmitVo(comment.getId(), CommentModerator.PENDING);
+    }
+
+    @Override
+    public void auditComment(Long id, Integer status) {
+        if (status == null || (status != CommentModerator.APPROVED && status != CommentModerator.REJECTED)) {
+            throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "审核状态错误");
+        }
+        LambdaQueryWrapper<Comment> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(Comment::getId, Comment::getArticleId, Comment::getStatus)
+                .eq(Comment::getId, id);
+        Comment comment = commentMapper.selectOne(wrapper);
+        if (comment == null) {
+            throw new BusinessException(ResultCodeEnum.DATA_NOT_EXIST.getCode(), "评论不存在");
+        }
+        if (!commentModerationQueue.transition(id, comment.getArticleId(), comment.getStatus(), status)
+                && !status.equals(comment.getStatus())) {
+            throw new BusinessException(ResultCodeEnum.ERROR.getCode(), "评论状态已变更，请刷新后重试");
+        }
+        log.info("评论审核完成，评论ID: {}, 状态: {} -> {}", id, comment.getStatus(), status);
+    }
+
+    /**
+     * 列表公共条件：只查展示需要的列（不含 IP、UA），只返回已通过审核的评论
+     */
+    private LambdaQueryWrapper<Comment> buildListWrapper() {
+        LambdaQueryWrapper<Comment> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(
+                Comment::getId, Comment::getArticleId, Comment::getUserId, Comment::getParentId,
+                Comment::getReplyToUserId, Comment::getContent, Comment::getLikeCount, Comment::getCreateTime
+        ).eq(Comment::getStatus, 1);
+        return wrapper;
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        String[] parts = CursorUtil.decode(cursor, 2);
+        try {
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "游标格式错误");
+        }
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private CommentVo convertToVO(Comment comment) {
+        CommentVo vo = new CommentVo();
+        BeanUtils.copyProperties(comment, vo);
+        return vo;
+    }
+
+    /**
+     * 补全一级评论的回复预览和回复数：预览一次查询、计数一次查询，都没有回复时不查计数
+     */
+    private void fillReplyPreviews(List<CommentVo> records, int replySize) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Map<Long, List<CommentVo>> previewMap = commentMapper
+                .selectReplyPreviews(records.stream().map(CommentVo::getId).toList(), replySize)
+                .stream()
+                .collect(Collectors.groupingBy(CommentVo::getParentId));
+        Map<Long, Long> countMap = previewMap.isEmpty()
+                ? Collections.emptyMap()
+                : commentMapper.selectReplyCounts(previewMap.keySet()).stream()
+                        .collect(Collectors.toMap(CommentVo::getParentId, CommentVo::getReplyCount));
+
+        for (CommentVo vo : records) {
+            List<CommentVo> replies = previewMap.getOrDefault(vo.getId(), Collections.emptyList());
+            vo.setReplies(replies);
+            vo.setReplyCount(Math.max(countMap.getOrDefault(vo.getId(), 0L), replies.size()));
+            // 预览之外还有回复时，返回从最后一条预览继续加载的游标
+            if (vo.getReplyCount() > replies.size()) {
+                CommentVo last = replies.get(replies.size() - 1);
+                vo.setRepliesCursor(CursorUtil.encode(last.getCreateTime(), last.getId()));
+            }
+        }
+    }
+
+    /**
+     * 批量补全评论用户和被回复用户的昵称、头像（含回复预览），走本地缓存
+     */
+    private void fillUsers(List<CommentVo> records) {
+        List<CommentVo> all = new ArrayList<>(records);
+        records.stream()
+                .map(CommentVo::getReplies)
+                .filter(Objects::nonNull)
+                .forEach(all::addAll);
+
+        Set<Long> userIds = new HashSet<>();
+        for (CommentVo vo : all) {
+            userIds.add(vo.getUserId());
+            if (vo.getReplyToUserId() != null) {
+                userIds.add(vo.getReplyToUserId());
+            }
+        }
+        userIds.remove(null);
+        Map<Long, User> users = referenceDataCache.getAuthors(userIds);
+
+        for (CommentVo vo : all) {
+            User user = vo.getUserId() == null ? null : users.get(vo.getUserId());
+            if (user != null) {
+                vo.setUserNickname(user.getNickname() != null ? user.getNickname() : user.getUsername());
+                vo.setUserAvatar(user.getAvatar());
+            }
+            User replyTo = vo.getReplyToUserId() == null ? null : users.get(vo.getReplyToUserId());
+            if (replyTo != null) {
+                vo.setReplyToNickname(replyTo.getNickname() != null ? replyTo.getNickname() : replyTo.getUsername());
+            }
+        }
+    }
+
+    private record Cursor(LocalDateTime createTime, Long id) {
+    }
+}
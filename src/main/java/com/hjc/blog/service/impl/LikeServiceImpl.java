@@ -0,0 +1,209 @@
+package com.hjc.blog.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.common.result.ResultCodeEnum;
+import com.hjc.blog.counter.LikeWriteBuffer;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.entity.Comment;
+import com.hjc.blog.entity.LikeRecord;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.CommentMapper;
+import com.hjc.blog.mapper.LikeRecordMapper;
+import com.hjc.blog.service.LikeService;
+import com.hjc.blog.vo.LikeVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 点赞服务实现类
+ * 每个目标的点赞用户保存在 Redis 集合中，点赞、取消和状态查询都是 O(1) 的集合操作；
+ * 数据库中的点赞记录和点赞数由 {@link LikeWriteBuffer} 异步批量写回。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeServiceImpl extends ServiceImpl<LikeRecordMapper, LikeRecord> implements LikeService {
+
+    private static final String KEY_PREFIX = "blog:like:";
+
+    /**
+     * 占位成员，保证没有点赞的目标也有集合，区分“已加载且为空”和“未加载”
+     */
+    private static final String PLACEHOLDER = "0";
+
+    /**
+     * 回填点赞集合：key 不存在时才写入占位成员和数据库中的点赞用户并设置过期时间，整体原子执行。
+     * 并发回填或回填期间已有点赞时不会覆盖，也不会留下没有过期时间或缺少占位成员的集合。
+     * ARGV[1] 为过期毫秒数，其余为成员，分批 SADD 避免 unpack 超出 Lua 栈限制
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "for i = 2, #ARGV, 1000 do "
+                    + "redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) "
+                    + "end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    private final LikeRecordMapper likeRecordMapper;
+
+    private final ArticleMapper articleMapper;
+
+    private final CommentMapper commentMapper;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final LikeWriteBuffer likeWriteBuffer;
+
+    /**
+     * 点赞集合的过期时间，每次点赞或取消时续期
+     */
+    @Value("${blog.like.state-ttl:7d}")
+    private Duration stateTtl;
+
+    @Override
+    public LikeVo like(Long userId, Long targetId, Integer targetType) {
+        String key = loadLikedUsers(targetId, targetType);
+        Long added = stringRedisTemplate.opsForSet().add(key, userId.toString());
+        stringRedisTemplate.expire(key, stateTtl);
+        if (added != null && added > 0) {
+            likeWriteBuffer.record(userId, targetId, targetType, true);
+            log.debug("点赞成功，用户ID: {}, 目标ID: {}, 目标类型: {}", userId, targetId, targetType);
+        }
+        return new LikeVo(targetId, targetType, true, countLikes(key));
+    }
+
+    @Override
+    public LikeVo unlike(Long userId, Long targetId, Integer targetType) {
+        String key = loadLikedUsers(targetId, targetType);
+        Long removed = stringRedisTemplate.opsForSet().remove(key, userId.toString());
+        stringRedisTemplate.expire(key, stateTtl);
+        if (removed != null && removed > 0) {
+            likeWriteBuffer.record(userId, targetId, targetType, false);
+            log.debug("取消点赞成功，用户ID: {}, 目标ID: {}, 目标类型: {}", userId, targetId, targetType);
+        }
+        return new LikeVo(targetId, targetType, false, countLikes(key));
+    }
+
+    @Override
+    public LikeVo getLikeStatus(Long userId, Long targetId, Integer targetType) {
+        String key = loadLikedUsers(targetId, targetType);
+        Boolean liked = stringRedisTemplate.opsForSet().isMember(key, userId.toString());
+        return new LikeVo(targetId, targetType, Boolean.TRUE.equals(liked), countLikes(key));
+    }
+
+    @Override
+    public Set<Long> listLikedTargetIds(Long userId, Collection<Long> targetIds, Integer targetType) {
+        checkTargetType(targetType);
+        if (userId == null || targetIds == null || targetIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(targetIds));
+
+        Set<Long> liked = new HashSet<>();
+        List<Long> unloaded = new ArrayList<>();
+        try {
+            // 一次往返：每个目标依次 EXISTS、SISMEMBER
+            String member = userId.toString();
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Long id : ids) {
+                    String key = key(id, targetType);
+                    conn.exists(key);
+                    conn.sIsMember(key, member);
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                if (!Boolean.TRUE.equals(results.get(2 * i))) {
+                    unloaded.add(ids.get(i));
+                } else if (Boolean.TRUE.equals(results.get(2 * i + 1))) {
+                    liked.add(ids.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("批量查询点赞状态失败，改为查库，用户ID: {}", userId, e);
+            liked.clear();
+            unloaded = ids;
+        }
+
+        // 未加载到 Redis 的目标以数据库为准
+        if (!unloaded.isEmpty()) {
+            liked.addAll(likeRecordMapper.selectLikedTargetIds(userId, unloaded, targetType));
+        }
+        return liked;
+    }
+
+    /**
+     * 确保目标的点赞集合已加载到 Redis，未加载时校验目标并从数据库回填
+     *
+     * @return 集合的 key
+     */
+    private String loadLikedUsers(Long targetId, Integer targetType) {
+        checkTargetType(targetType);
+        String key = key(targetId, targetType);
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return key;
+        }
+
+        checkTargetExists(targetId, targetType);
+        List<Long> userIds = likeRecordMapper.selectUserIdsByTarget(targetId, targetType);
+        Object[] args = Stream.concat(
+                        Stream.of(Long.toString(stateTtl.toMillis()), PLACEHOLDER),
+                        userIds.stream().map(String::valueOf))
+                .toArray();
+        stringRedisTemplate.execute(LOAD_SCRIPT, List.of(key), args);
+        return key;
+    }
+
+    private String key(Long targetId, Integer targetType) {
+        return KEY_PREFIX + targetType + ":" + targetId;
+    }
+
+    private long countLikes(String key) {
+        Long size = stringRedisTemplate.opsForSet().size(key);
+        return size == null ? 0 : Math.max(0, size - 1);
+    }
+
+    private void checkTargetType(Integer targetType) {
+        if (targetType == null
+                || (targetType != LikeWriteBuffer.TARGET_ARTICLE && targetType != LikeWriteBuffer.TARGET_COMMENT)) {
+            throw new BusinessException(ResultCodeEnum.PARAM_ERROR.getCode(), "点赞目标类型错误");
+        }
+    }
+
+    private void checkTargetExists(Long targetId, Integer targetType) {
+        long count;
+        if (targetType == LikeWriteBuffer.TARGET_ARTICLE) {
+            count = articleMapper.selectCount(new LambdaQueryWrapper<Article>()
+                    .eq(Article::getId, targetId)
+                    .eq(Article::getStatus, 1));
+        } else {
+            count = commentMapper.selectCount(new LambdaQueryWrapper<Comment>()
+                    .eq(Comment::getId, targetId)
+                    .eq(Comment::getStatus, 1));
+        }
+        if (count == 0) {
+            throw new BusinessException(ResultCodeEnum.DATA_NOT_EXIST);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.hjc.blog.entity.User;
 import com.hjc.blog.mapper.UserMapper;
+import com.hjc.blog.security.jwt.TokenRevocationRegistry;
 import com.hjc.blog.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,8 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
 
     private final UserMapper userMapper;
 
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
     @Override
     public User getByUsername(String username) {
         LambdaQueryWrapper<User> wrapper = new LambdaQueryWrapper<>();
@@ -50,7 +53,12 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         User user = new User();
         user.setId(userId);
         user.setPassword(newPassword);
-        return userMapper.updateById(user) > 0;
+        boolean updated = userMapper.updateById(user) > 0;
+        if (updated) {
+            // 修改密码后旧 Token 全部失效
+            tokenRevocationRegistry.revoke(userId);
+        }
+        return updated;
     }
 
     @Override
@@ -58,6 +66,11 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         User user = new User();
         user.setId(userId);
         user.setStatus(status);
-        return userMapper.updateById(user) > 0;
+        boolean updated = userMapper.updateById(user) > 0;
+        if (updated && status != null && status == 0) {
+            // 禁用账号后旧 Token 全部失效
+            tokenRevocationRegistry.revoke(userId);
+        }
+        return updated;
     }
 }
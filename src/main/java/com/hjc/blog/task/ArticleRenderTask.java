@@ -0,0 +1,123 @@
+package com.hjc.blog.task;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.hjc.blog.cache.ArticleDetailCache;
+import com.hjc.blog.common.utils.MarkdownUtil;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.mapper.ArticleMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 文章批量重新渲染任务
+ * 按主键分批扫描全部文章，只重新渲染内容摘要与当前渲染结果不一致的文章，
+ * 用于渲染规则升级或历史数据补齐 content_html
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleRenderTask {
+
+    private final ArticleMapper articleMapper;
+
+    private final MarkdownUtil markdownUtil;
+
+    private final ArticleDetailCache articleDetailCache;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-render");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 每批读取的文章数
+     */
+    @Value("${blog.render.chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * 在后台启动重新渲染
+     *
+     * @return true-已启动，false-已有任务在执行
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                log.error("文章批量渲染失败", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 执行重新渲染
+     *
+     * @return 重新渲染的文章数
+     */
+    public int run() {
+        long lastId = 0;
+        int scanned = 0;
+        int rendered = 0;
+        while (true) {
+            // 只取渲染判断需要的列，按主键游标分批，避免深分页
+            LambdaQueryWrapper<Article> wrapper = new LambdaQueryWrapper<>();
+            wrapper.select(Article::getId, Article::getContent, Article::getContentHash)
+                    .gt(Article::getId, lastId)
+                    .orderByAsc(Article::getId)
+                    .last("LIMIT " + chunkSize);
+            List<Article> chunk = articleMapper.selectList(wrapper);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            for (Article article : chunk) {
+                String hash = markdownUtil.hash(article.getContent());
+                if (!hash.equals(article.getContentHash())) {
+                    LambdaUpdateWrapper<Article> updateWrapper = new LambdaUpdateWrapper<>();
+                    updateWrapper.eq(Article::getId, article.getId())
+                            // 读取之后文章被编辑过则放弃，避免用旧正文的渲染结果覆盖新内容
+                            .eq(article.getContentHash() != null, Article::getContentHash, article.getContentHash())
+                            .isNull(article.getContentHash() == null, Article::getContentHash)
+                            .set(Article::getContentHtml, markdownUtil.render(article.getContent()))
+                            .set(Article::getContentHash, hash)
+                            // 重新渲染不算作文章更新，保持 update_time 不变
+                            .setSql("update_time = update_time");
+                    if (articleMapper.update(null, updateWrapper) == 0) {
+                        log.info("文章渲染期间已被修改，跳过，文章ID: {}", article.getId());
+                        continue;
+                    }
+                    articleDetailCache.evict(article.getId());
+                    rendered++;
+                }
+            }
+            scanned += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+        log.info("文章批量渲染完成，扫描: {}，重新渲染: {}", scanned, rendered);
+        return rendered;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,223 @@
+package com.hjc.blog.task;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.hjc.blog.counter.ArticleCommentCounter;
+import com.hjc.blog.entity.Comment;
+import com.hjc.blog.mapper.CommentMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 评论审核队列
+ * 新评论以待审核状态落库后提交到有界队列，由固定数量的工作线程完成自动审核、状态流转和文章评论数累加。
+ * 队列已满或应用重启时，待审核评论仍在库中，由定时补偿任务按主键分批重新入队；
+ * 自动审核后转人工的评论改为待人工审核状态，不会再被补偿任务扫到。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentModerationQueue {
+
+    private final CommentMapper commentMapper;
+
+    private final CommentModerator commentModerator;
+
+    private final ArticleCommentCounter articleCommentCounter;
+
+    /**
+     * 已入队或处理中的评论ID，避免补偿任务重复入队
+     */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 是否可能有未入队的待审核评论，启动时为 true，首次补偿即回收上次停机前未处理的评论
+     */
+    private final AtomicBoolean backlog = new AtomicBoolean(true);
+
+    /**
+     * 补偿任务上次因队列已满中断时最后入队的评论ID，下一轮从这里继续
+     */
+    private volatile long sweepCursor;
+
+    /**
+     * 工作线程数
+     */
+    @Value("${blog.comment.workers:2}")
+    private int workers;
+
+    /**
+     * 队列容量
+     */
+    @Value("${blog.comment.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * 补偿任务每批读取的评论数
+     */
+    @Value("${blog.comment.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "comment-moderation-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 提交待审核评论
+     *
+     * @param commentId 评论ID
+     * @return true-已入队，false-队列已满，留待补偿任务处理
+     */
+    public boolean submit(Long commentId) {
+        if (!inFlight.add(commentId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(commentId);
+                } catch (Exception e) {
+                    log.error("评论审核失败，评论ID: {}", commentId, e);
+                    backlog.set(true);
+                } finally {
+                    inFlight.remove(commentId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(commentId);
+            backlog.set(true);
+            log.warn("评论审核队列已满，评论ID: {} 留待补偿任务处理", commentId);
+            return false;
+        }
+    }
+
+    /**
+     * 变更评论审核状态，只有状态确实从 fromStatus 变为 toStatus 时才调整文章评论数
+     *
+     * @param commentId  评论ID
+     * @param articleId  文章ID
+     * @param fromStatus 期望的当前状态
+     * @param toStatus   目标状态
+     * @return true-状态已变更，false-评论不存在或状态已被修改
+     */
+    public boolean transition(Long commentId, Long articleId, int fromStatus, int toStatus) {
+        if (fromStatus == toStatus) {
+            return false;
+        }
+        LambdaUpdateWrapper<Comment> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(Comment::getId, commentId)
+                .eq(Comment::getStatus, fromStatus)
+                .set(Comment::getStatus, toStatus);
+        if (commentMapper.update(null, wrapper) == 0) {
+            return false;
+        }
+
+        int delta = (toStatus == CommentModerator.APPROVED ? 1 : 0) - (fromStatus == CommentModerator.APPROVED ? 1 : 0);
+        if (delta != 0) {
+            articleCommentCounter.adjust(articleId, delta);
+        }
+        return true;
+    }
+
+    /**
+     * 定时补偿：队列有空位时，把库中未入队的待审核评论按主键分批重新入队
+     * 队列再次写满时记下位置，下一轮从中断处继续；从中途续扫到末尾后再从头补扫一轮
+     */
+    @Scheduled(fixedDelayString = "${blog.comment.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!backlog.compareAndSet(true, false)) {
+            return;
+        }
+        long startId = sweepCursor;
+        long lastId = startId;
+        int submitted = 0;
+        while (true) {
+            LambdaQueryWrapper<Comment> wrapper = new LambdaQueryWrapper<>();
+            wrapper.select(Comment::getId)
+                    .eq(Comment::getStatus, CommentModerator.PENDING)
+                    .gt(Comment::getId, lastId)
+                    .orderByAsc(Comment::getId)
+                    .last("LIMIT " + sweepBatchSize);
+            List<Comment> chunk = commentMapper.selectList(wrapper);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (Comment comment : chunk) {
+                if (!submit(comment.getId())) {
+                    // 队列又满了，剩余的等下一轮从这里继续（submit 已重新标记积压）
+                    sweepCursor = lastId;
+                    log.info("评论审核补偿中断，本轮已入队: {}，下轮从评论ID {} 之后继续", submitted, lastId);
+                    return;
+                }
+                submitted++;
+                lastId = comment.getId();
+            }
+        }
+        sweepCursor = 0;
+        if (startId > 0) {
+            // 游标之前的评论可能在中断期间处理失败，下一轮从头补扫
+            backlog.set(true);
+        }
+        if (submitted > 0) {
+            log.info("评论审核补偿完成，重新入队: {}", submitted);
+        }
+    }
+
+    /**
+     * 当前排队中的评论数
+     */
+    public int size() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 未处理的评论仍是待审核状态，下次启动由补偿任务回收
+        executor.shutdownNow();
+    }
+
+    /**
+     * 自动审核一条评论
+     */
+    void process(Long commentId) {
+        LambdaQueryWrapper<Comment> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(Comment::getId, Comment::getArticleId, Comment::getContent, Comment::getStatus)
+                .eq(Comment::getId, commentId);
+        Comment comment = commentMapper.selectOne(wrapper);
+        if (comment == null || comment.getStatus() == null || comment.getStatus() != CommentModerator.PENDING) {
+            return;
+        }
+
+        int decision = commentModerator.moderate(comment.getContent());
+        if (transition(commentId, comment.getArticleId(), CommentModerator.PENDING, decision)) {
+            log.debug("评论自动审核完成，评论ID: {}, 结果: {}", commentId, decision);
+        }
+    }
+}
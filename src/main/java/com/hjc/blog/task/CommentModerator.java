@@ -0,0 +1,78 @@
+package com.hjc.blog.task;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 评论自动审核
+ * 命中屏蔽词直接拒绝；链接过多的评论转人工审核；其余自动通过
+ */
+@Component
+public class CommentModerator {
+
+    /**
+     * 评论状态：待审核
+     */
+    public static final int PENDING = 0;
+
+    /**
+     * 评论状态：已通过
+     */
+    public static final int APPROVED = 1;
+
+    /**
+     * 评论状态：已拒绝
+     */
+    public static final int REJECTED = 2;
+
+    /**
+     * 评论状态：已自动审核，待人工审核。与待审核区分，补偿任务不再重复入队
+     */
+    public static final int MANUAL_REVIEW = 3;
+
+    private static final Pattern LINK_PATTERN = Pattern.compile("https?://", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 屏蔽词，逗号分隔，不区分大小写
+     */
+    @Value("${blog.comment.moderation.blocked-words:}")
+    private List<String> blockedWords;
+
+    /**
+     * 自动通过允许包含的最大链接数，超过则转人工审核
+     */
+    @Value("${blog.comment.moderation.max-links:2}")
+    private int maxLinks;
+
+    /**
+     * 审核评论内容
+     *
+     * @param content 评论内容
+     * @return 审核结果：1-通过，2-拒绝，3-待人工审核
+     */
+    public int moderate(String content) {
+        if (content == null || content.isBlank()) {
+            return REJECTED;
+        }
+        String normalized = content.toLowerCase(Locale.ROOT);
+        for (String word : blockedWords) {
+            if (!word.isBlank() && normalized.contains(word.trim().toLowerCase(Locale.ROOT))) {
+                return REJECTED;
+            }
+        }
+
+        int links = 0;
+        Matcher matcher = LINK_PATTERN.matcher(content);
+        while (matcher.find()) {
+            if (++links > maxLinks) {
+                return MANUAL_REVIEW;
+            }
+        }
+        return APPROVED;
+    }
+}
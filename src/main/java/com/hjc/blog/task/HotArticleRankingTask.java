@@ -0,0 +1,29 @@
+package com.hjc.blog.task;
+
+import com.hjc.blog.service.ArticleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 热门文章榜定时刷新任务
+ * 启动后立即计算一次，之后按固定间隔重新计算
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotArticleRankingTask {
+
+    private final ArticleService articleService;
+
+    @Scheduled(fixedDelayString = "${blog.hot.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            articleService.refreshHotRanking();
+        } catch (Exception e) {
+            // 刷新失败时保留上一次的榜单
+            log.error("热门文章榜刷新失败", e);
+        }
+    }
+}
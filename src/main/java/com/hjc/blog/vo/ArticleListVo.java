@@ -81,4 +81,10 @@ public class ArticleListVo {
 
     @Schema(description = "创建时间")
     private LocalDateTime createTime;
+
+    @Schema(description = "当前用户是否已点赞，未登录时为空")
+    private Boolean liked;
+
+    @Schema(description = "当前用户是否已收藏，未登录时为空")
+    private Boolean collected;
 }
@@ -0,0 +1,24 @@
+package com.hjc.blog.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 当前用户对一组文章的点赞、收藏状态VO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "当前用户的点赞、收藏状态")
+public class ArticleUserFlagsVo {
+
+    @Schema(description = "已点赞的文章ID")
+    private Set<Long> likedIds;
+
+    @Schema(description = "已收藏的文章ID")
+    private Set<Long> collectedIds;
+}
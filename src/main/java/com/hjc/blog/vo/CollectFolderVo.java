@@ -0,0 +1,22 @@
+package com.hjc.blog.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 收藏夹VO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "收藏夹")
+public class CollectFolderVo {
+
+    @Schema(description = "收藏夹名称")
+    private String folderName;
+
+    @Schema(description = "收藏数")
+    private Long collectCount;
+}
@@ -0,0 +1,38 @@
+package com.hjc.blog.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 收藏VO
+ */
+@Data
+@Schema(description = "收藏")
+public class CollectVo {
+
+    @Schema(description = "收藏ID")
+    private Long id;
+
+    @Schema(description = "文章ID")
+    private Long articleId;
+
+    @Schema(description = "文章标题，文章已删除时为空")
+    private String articleTitle;
+
+    @Schema(description = "文章摘要")
+    private String articleSummary;
+
+    @Schema(description = "文章封面图片URL")
+    private String articleCoverImage;
+
+    @Schema(description = "收藏夹名称")
+    private String folderName;
+
+    @Schema(description = "备注")
+    private String remark;
+
+    @Schema(description = "收藏时间")
+    private LocalDateTime createTime;
+}
@@ -0,0 +1,22 @@
+package com.hjc.blog.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 发表评论结果VO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "发表评论结果")
+public class CommentSubmitVo {
+
+    @Schema(description = "评论ID")
+    private Long id;
+
+    @Schema(description = "状态：0-待审核，1-已通过，2-已拒绝")
+    private Integer status;
+}
@@ -0,0 +1,57 @@
+package com.hjc.blog.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 评论VO
+ */
+@Data
+@Schema(description = "评论")
+public class CommentVo {
+
+    @Schema(description = "评论ID")
+    private Long id;
+
+    @Schema(description = "文章ID")
+    private Long articleId;
+
+    @Schema(description = "评论用户ID")
+    private Long userId;
+
+    @Schema(description = "评论用户昵称")
+    private String userNickname;
+
+    @Schema(description = "评论用户头像")
+    private String userAvatar;
+
+    @Schema(description = "父评论ID，一级评论为空")
+    private Long parentId;
+
+    @Schema(description = "被回复用户ID")
+    private Long replyToUserId;
+
+    @Schema(description = "被回复用户昵称")
+    private String replyToNickname;
+
+    @Schema(description = "评论内容")
+    private String content;
+
+    @Schema(description = "点赞数")
+    private Integer likeCount;
+
+    @Schema(description = "评论时间")
+    private LocalDateTime createTime;
+
+    @Schema(description = "回复总数，仅一级评论返回")
+    private Long replyCount;
+
+    @Schema(description = "回复预览，仅一级评论返回")
+    private List<CommentVo> replies;
+
+    @Schema(description = "继续加载回复的游标，没有更多回复时为空")
+    private String repliesCursor;
+}
@@ -0,0 +1,27 @@
+package com.hjc.blog.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 游标分页VO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "游标分页结果")
+public class CursorPageVo<T> {
+
+    @Schema(description = "当前页数据")
+    private List<T> records;
+
+    @Schema(description = "下一页游标，没有更多数据时为空")
+    private String nextCursor;
+
+    @Schema(description = "是否还有更多数据")
+    private Boolean hasMore;
+}
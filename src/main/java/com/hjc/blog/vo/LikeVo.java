@@ -0,0 +1,28 @@
+package com.hjc.blog.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 点赞状态VO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "点赞状态")
+public class LikeVo {
+
+    @Schema(description = "目标ID")
+    private Long targetId;
+
+    @Schema(description = "目标类型：1-文章，2-评论")
+    private Integer targetType;
+
+    @Schema(description = "当前用户是否已点赞")
+    private Boolean liked;
+
+    @Schema(description = "点赞数")
+    private Long likeCount;
+}
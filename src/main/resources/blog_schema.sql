@@ -85,6 +85,7 @@ CREATE TABLE `article` (
     `cover_image` VARCHAR(255) DEFAULT NULL COMMENT '封面图片URL',
     `content` MEDIUMTEXT NOT NULL COMMENT '文章内容（Markdown）',
     `content_html` MEDIUMTEXT DEFAULT NULL COMMENT '渲染后的HTML内容',
+    `content_hash` CHAR(64) DEFAULT NULL COMMENT '内容摘要（用于判断是否需要重新渲染）',
     `category_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '分类ID',
     `author_id` BIGINT UNSIGNED NOT NULL COMMENT '作者ID',
     `view_count` INT UNSIGNED DEFAULT 0 COMMENT '浏览次数',
@@ -107,6 +108,8 @@ CREATE TABLE `article` (
     KEY `idx_is_top` (`is_top`),
     KEY `idx_publish_time` (`publish_time`),
     KEY `idx_create_time` (`create_time`),
+    KEY `idx_status_top_create_time` (`status`, `is_top`, `create_time`),
+    KEY `idx_status_top_publish_time` (`status`, `is_top`, `publish_time`),
     FULLTEXT KEY `ft_title_content` (`title`, `content`) WITH PARSER ngram
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章表';
 
@@ -136,16 +139,17 @@ CREATE TABLE `comment` (
     `reply_to_user_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '被回复用户ID',
     `content` VARCHAR(1000) NOT NULL COMMENT '评论内容',
     `like_count` INT UNSIGNED DEFAULT 0 COMMENT '点赞数',
-    `status` TINYINT DEFAULT 1 COMMENT '状态：0-待审核，1-已通过，2-已拒绝',
+    `status` TINYINT DEFAULT 1 COMMENT '状态：0-待审核，1-已通过，2-已拒绝，3-待人工审核',
     `ip_address` VARCHAR(50) DEFAULT NULL COMMENT 'IP地址',
     `user_agent` VARCHAR(500) DEFAULT NULL COMMENT '用户代理',
     `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     `update_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     `is_deleted` TINYINT NOT NULL DEFAULT 0 COMMENT '是否删除：0-否，1-是',
     PRIMARY KEY (`id`),
-    KEY `idx_article_id` (`article_id`),
+    KEY `idx_article_parent_create_time` (`article_id`, `parent_id`, `create_time`),
     KEY `idx_user_id` (`user_id`),
-    KEY `idx_parent_id` (`parent_id`),
+    KEY `idx_parent_create_time` (`parent_id`, `create_time`),
+    KEY `idx_status` (`status`),
     KEY `idx_create_time` (`create_time`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='评论表';
 
@@ -177,10 +181,13 @@ CREATE TABLE `collect` (
     `folder_name` VARCHAR(50) DEFAULT 'default' COMMENT '收藏夹名称',
     `remark` VARCHAR(200) DEFAULT NULL COMMENT '备注',
     `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `update_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     `is_deleted` TINYINT NOT NULL DEFAULT 0 COMMENT '是否删除：0-否，1-是',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_user_article` (`user_id`, `article_id`),
-    KEY `idx_article_id` (`article_id`)
+    KEY `idx_article_id` (`article_id`),
+    KEY `idx_user_create_time` (`user_id`, `is_deleted`, `create_time`),
+    KEY `idx_user_folder_create_time` (`user_id`, `folder_name`, `is_deleted`, `create_time`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章收藏表';
 
 -- ============================================
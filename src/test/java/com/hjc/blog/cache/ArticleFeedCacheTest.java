@@ -0,0 +1,136 @@
+package com.hjc.blog.cache;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.hjc.blog.dto.ArticleQueryDto;
+import com.hjc.blog.vo.ArticleListVo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArticleFeedCache 单元测试
+ */
+@DisplayName("首页文章列表快照测试")
+class ArticleFeedCacheTest {
+
+    private ArticleFeedCache articleFeedCache;
+
+    @BeforeEach
+    void setUp() {
+        articleFeedCache = new ArticleFeedCache();
+        ReflectionTestUtils.setField(articleFeedCache, "maxPages", 3);
+        ReflectionTestUtils.setField(articleFeedCache, "maxPageSize", 50);
+        ReflectionTestUtils.setField(articleFeedCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(articleFeedCache, "ttl", Duration.ofMinutes(1));
+        articleFeedCache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleFeedCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("只有默认查询的前几页使用快照")
+    void testKeyOf() {
+        // Arrange
+        ArticleQueryDto byCategory = new ArticleQueryDto();
+        byCategory.setCategoryId(10L);
+        ArticleQueryDto deepPage = new ArticleQueryDto();
+        deepPage.setPageNum(4);
+        ArticleQueryDto byKeyword = new ArticleQueryDto();
+        byKeyword.setKeyword("java");
+        ArticleQueryDto byViews = new ArticleQueryDto();
+        byViews.setOrderBy("viewCount");
+
+        // Act & Assert
+        assertEquals(new ArticleFeedCache.FeedKey(10L, null, null, 1, 10), articleFeedCache.keyOf(byCategory));
+        assertNull(articleFeedCache.keyOf(deepPage));
+        assertNull(articleFeedCache.keyOf(byKeyword));
+        assertNull(articleFeedCache.keyOf(byViews));
+    }
+
+    @Test
+    @DisplayName("同一快照只加载一次，返回副本")
+    void testGet_LoadOnceAndCopy() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        ArticleFeedCache.FeedKey key = new ArticleFeedCache.FeedKey(null, null, null, 1, 10);
+
+        // Act
+        Page<ArticleListVo> first = articleFeedCache.get(key, k -> {
+            loads.incrementAndGet();
+            return page(1L);
+        });
+        first.getRecords().get(0).setLiked(true);
+        Page<ArticleListVo> second = articleFeedCache.get(key, k -> {
+            loads.incrementAndGet();
+            return page(2L);
+        });
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(1L, second.getRecords().get(0).getId());
+        assertNull(second.getRecords().get(0).getLiked());
+    }
+
+    @Test
+    @DisplayName("加载失败时抛出原异常，且不缓存失败结果")
+    void testGet_LoadFailure() {
+        // Arrange
+        ArticleFeedCache.FeedKey key = new ArticleFeedCache.FeedKey(null, null, null, 1, 10);
+
+        // Act
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> articleFeedCache.get(key, k -> {
+                    throw new IllegalStateException("db down");
+                }));
+        Page<ArticleListVo> page = articleFeedCache.get(key, k -> page(1L));
+
+        // Assert
+        assertEquals("db down", e.getMessage());
+        assertEquals(1L, page.getRecords().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("文章变更后在后台重建已有快照")
+    void testRebuild() throws InterruptedException {
+        // Arrange
+        ArticleFeedCache.FeedKey key = new ArticleFeedCache.FeedKey(null, null, null, 1, 10);
+        articleFeedCache.get(key, k -> page(1L));
+        CountDownLatch rebuilt = new CountDownLatch(1);
+
+        // Act：没有事务时立即安排重建
+        articleFeedCache.rebuild(k -> {
+            rebuilt.countDown();
+            return page(2L);
+        });
+
+        // Assert
+        assertTrue(rebuilt.await(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (articleFeedCache.get(key, k -> page(3L)).getRecords().get(0).getId() != 2L
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2L, articleFeedCache.get(key, k -> page(3L)).getRecords().get(0).getId());
+    }
+
+    private Page<ArticleListVo> page(Long articleId) {
+        ArticleListVo vo = new ArticleListVo();
+        vo.setId(articleId);
+        Page<ArticleListVo> page = new Page<>(1, 10, 1);
+        page.setRecords(List.of(vo));
+        return page;
+    }
+}
@@ -0,0 +1,175 @@
+package com.hjc.blog.cache;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.vo.ArticleListVo;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * HotArticleRanking 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("热门文章榜测试")
+class HotArticleRankingTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @InjectMocks
+    private HotArticleRanking hotArticleRanking;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Article.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hotArticleRanking, "size", 2);
+        ReflectionTestUtils.setField(hotArticleRanking, "window", Duration.ofDays(30));
+        ReflectionTestUtils.setField(hotArticleRanking, "halfLife", Duration.ofHours(24));
+        ReflectionTestUtils.setField(hotArticleRanking, "chunkSize", 500);
+        ReflectionTestUtils.setField(hotArticleRanking, "viewWeight", 1.0);
+        ReflectionTestUtils.setField(hotArticleRanking, "likeWeight", 5.0);
+        ReflectionTestUtils.setField(hotArticleRanking, "commentWeight", 10.0);
+        ReflectionTestUtils.setField(hotArticleRanking, "collectWeight", 8.0);
+    }
+
+    @Test
+    @DisplayName("热度按半衰期随发布时长衰减")
+    void testScore_Decay() {
+        // Arrange：加权计数 = 100 + 5 × 10 = 150
+        Article fresh = article(1L, 100, 10, NOW);
+        Article dayOld = article(2L, 100, 10, NOW.minusHours(24));
+
+        // Act & Assert
+        assertEquals(150.0, hotArticleRanking.score(fresh, NOW), 1e-9);
+        assertEquals(75.0, hotArticleRanking.score(dayOld, NOW), 1e-9);
+    }
+
+    @Test
+    @DisplayName("刷新 - 只保留前 N 篇，按热度从高到低")
+    @SuppressWarnings("unchecked")
+    void testRefresh_TopN() {
+        // Arrange：文章 1 发布已久，热度最低
+        when(articleMapper.selectList(any(Wrapper.class))).thenReturn(List.of(
+                article(1L, 1000, 0, NOW.minusDays(20)),
+                article(2L, 10, 0, NOW),
+                article(3L, 100, 0, NOW)
+        ), List.of());
+
+        // Act
+        int ranked = hotArticleRanking.refresh(ids -> {
+            assertEquals(List.of(3L, 2L), ids);
+            return ids.stream().map(this::item).toList();
+        });
+
+        // Assert
+        assertEquals(2, ranked);
+        assertTrue(hotArticleRanking.isReady());
+        assertEquals(List.of(3L, 2L), hotArticleRanking.page(0, 10).stream().map(ArticleListVo::getId).toList());
+        assertTrue(hotArticleRanking.page(2, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("分页返回副本，删除的文章立即移出榜单")
+    @SuppressWarnings("unchecked")
+    void testPageCopyAndRemove() {
+        // Arrange
+        when(articleMapper.selectList(any(Wrapper.class)))
+                .thenReturn(List.of(article(1L, 10, 0, NOW), article(2L, 20, 0, NOW)), List.of());
+        hotArticleRanking.refresh(ids -> ids.stream().map(this::item).toList());
+
+        // Act
+        hotArticleRanking.page(0, 1).get(0).setLiked(true);
+        hotArticleRanking.remove(2L);
+
+        // Assert
+        List<ArticleListVo> page = hotArticleRanking.page(0, 10);
+        assertEquals(List.of(1L), page.stream().map(ArticleListVo::getId).toList());
+        assertNull(page.get(0).getLiked());
+        assertEquals(1, hotArticleRanking.total());
+    }
+
+    @Test
+    @DisplayName("刷新期间移除的文章不会随新快照回到榜单")
+    @SuppressWarnings("unchecked")
+    void testRemoveDuringRefresh() {
+        // Arrange
+        when(articleMapper.selectList(any(Wrapper.class)))
+                .thenReturn(List.of(article(1L, 10, 0, NOW), article(2L, 20, 0, NOW)), List.of());
+
+        // Act：加载展示数据时文章 2 被下架
+        hotArticleRanking.refresh(ids -> {
+            hotArticleRanking.remove(2L);
+            return ids.stream().map(this::item).toList();
+        });
+
+        // Assert
+        assertEquals(List.of(1L), hotArticleRanking.page(0, 10).stream().map(ArticleListVo::getId).toList());
+    }
+
+    @Test
+    @DisplayName("事务中移除 - 提交后才移出榜单")
+    @SuppressWarnings("unchecked")
+    void testRemove_AfterCommit() {
+        // Arrange
+        when(articleMapper.selectList(any(Wrapper.class)))
+                .thenReturn(List.of(article(1L, 10, 0, NOW), article(2L, 20, 0, NOW)), List.of());
+        hotArticleRanking.refresh(ids -> ids.stream().map(this::item).toList());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            hotArticleRanking.remove(2L);
+
+            // Assert：提交前仍在榜单中
+            assertEquals(2, hotArticleRanking.total());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(List.of(1L), hotArticleRanking.page(0, 10).stream().map(ArticleListVo::getId).toList());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Article article(Long id, int views, int likes, LocalDateTime publishTime) {
+        Article article = new Article();
+        article.setId(id);
+        article.setViewCount(views);
+        article.setLikeCount(likes);
+        article.setCommentCount(0);
+        article.setCollectCount(0);
+        article.setPublishTime(publishTime);
+        return article;
+    }
+
+    private ArticleListVo item(Long id) {
+        ArticleListVo vo = new ArticleListVo();
+        vo.setId(id);
+        return vo;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hjc.blog.common.utils;
+
+import com.hjc.blog.security.jwt.JwtClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtUtil 单元测试
+ */
+@DisplayName("JWT工具类测试")
+class JwtUtilTest {
+
+    private static final String SECRET = "blog-secret-key-for-jwt-token-generation-2024-blog-secret-key-for-jwt";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil(SECRET, 60_000L);
+    }
+
+    @Test
+    @DisplayName("解析有效Token")
+    void testParse_ValidToken() {
+        String token = jwtUtil.generateToken(1L, "testuser", "USER");
+
+        JwtClaims claims = jwtUtil.parse(token);
+
+        assertNotNull(claims);
+        assertEquals(1L, claims.getUserId());
+        assertEquals("testuser", claims.getUsername());
+        assertEquals("USER", claims.getRole());
+        assertNotNull(claims.getIssuedAt());
+        assertFalse(claims.isExpired());
+        assertTrue(jwtUtil.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("重复解析同一Token命中缓存")
+    void testParse_Cached() {
+        String token = jwtUtil.generateToken(1L, "testuser", "USER");
+
+        assertSame(jwtUtil.parse(token), jwtUtil.parse(token));
+    }
+
+    @Test
+    @DisplayName("签名不匹配的Token无效")
+    void testParse_InvalidSignature() {
+        String token = newJwtUtil(SECRET + "-other", 60_000L).generateToken(1L, "testuser", "USER");
+
+        assertNull(jwtUtil.parse(token));
+        assertFalse(jwtUtil.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("过期或格式错误的Token无效")
+    void testParse_ExpiredOrMalformed() {
+        String expired = newJwtUtil(SECRET, -1_000L).generateToken(1L, "testuser", "USER");
+
+        assertNull(jwtUtil.parse(expired));
+        assertNull(jwtUtil.parse("not.a.token"));
+    }
+
+    private JwtUtil newJwtUtil(String secret, long expiration) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", secret);
+        ReflectionTestUtils.setField(util, "expiration", expiration);
+        ReflectionTestUtils.setField(util, "cacheMaxSize", 100L);
+        util.init();
+        return util;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hjc.blog.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MarkdownUtil 单元测试
+ */
+@DisplayName("Markdown渲染工具类测试")
+class MarkdownUtilTest {
+
+    private final MarkdownUtil markdownUtil = new MarkdownUtil();
+
+    @Test
+    @DisplayName("渲染Markdown并保留代码块语言")
+    void testRender() {
+        String html = markdownUtil.render("# 标题\n\n- 列表\n\n```java\nint a = 1;\n```");
+
+        assertTrue(html.contains("<h1>标题</h1>"));
+        assertTrue(html.contains("<li>列表</li>"));
+        assertTrue(html.contains("<code class=\"language-java\">"));
+    }
+
+    @Test
+    @DisplayName("清洗脚本和事件属性")
+    void testRender_Sanitized() {
+        String html = markdownUtil.render("<script>alert(1)</script>\n\n<img src=\"http://a.com/1.png\" onerror=\"alert(1)\">\n\n[x](javascript:alert(1))");
+
+        assertFalse(html.contains("<script"));
+        assertFalse(html.contains("onerror"));
+        assertFalse(html.contains("javascript:"));
+    }
+
+    @Test
+    @DisplayName("内容摘要随内容变化")
+    void testHash() {
+        assertEquals(markdownUtil.hash("# a"), markdownUtil.hash("# a"));
+        assertNotEquals(markdownUtil.hash("# a"), markdownUtil.hash("# b"));
+        assertEquals(64, markdownUtil.hash(null).length());
+    }
+}
@@ -0,0 +1,86 @@
+package com.hjc.blog.counter;
+
+import com.hjc.blog.mapper.ArticleMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * ArticleCommentCounter 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("文章评论数计数器测试")
+class ArticleCommentCounterTest {
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @InjectMocks
+    private ArticleCommentCounter articleCommentCounter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(articleCommentCounter, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("合并同一文章的增量后一次写回")
+    void testFlush_Merged() {
+        // Arrange
+        articleCommentCounter.adjust(1L, 1);
+        articleCommentCounter.adjust(1L, 1);
+        articleCommentCounter.adjust(2L, 1);
+        articleCommentCounter.adjust(2L, -1);
+
+        // Act
+        articleCommentCounter.flush();
+        articleCommentCounter.flush();
+
+        // Assert：净增量为 0 的文章不写库，第二次没有增量
+        verify(articleMapper, times(1)).batchAdjustCommentCount(Map.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("按批次大小拆分为多条 UPDATE")
+    void testFlush_Batched() {
+        // Arrange
+        articleCommentCounter.adjust(1L, 1);
+        articleCommentCounter.adjust(2L, 1);
+        articleCommentCounter.adjust(3L, -1);
+
+        // Act
+        articleCommentCounter.flush();
+
+        // Assert
+        verify(articleMapper, times(2)).batchAdjustCommentCount(anyMap());
+        verify(articleMapper).batchAdjustCommentCount(Map.of(1L, 1L, 2L, 1L));
+        verify(articleMapper).batchAdjustCommentCount(Map.of(3L, -1L));
+    }
+
+    @Test
+    @DisplayName("写库失败时增量保留到下次重试")
+    void testFlush_Retry() {
+        // Arrange
+        articleCommentCounter.adjust(1L, 1);
+        doThrow(new RuntimeException("db down")).doReturn(1)
+                .when(articleMapper).batchAdjustCommentCount(anyMap());
+
+        // Act
+        articleCommentCounter.flush();
+        articleCommentCounter.adjust(1L, 1);
+        articleCommentCounter.flush();
+
+        // Assert
+        verify(articleMapper).batchAdjustCommentCount(Map.of(1L, 2L));
+    }
+}
@@ -0,0 +1,81 @@
+package com.hjc.blog.counter;
+
+import com.hjc.blog.mapper.ArticleMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * ArticleViewCounter 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("文章浏览量计数器测试")
+class ArticleViewCounterTest {
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @InjectMocks
+    private ArticleViewCounter articleViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(articleViewCounter, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("累计的浏览量按批次写回")
+    @SuppressWarnings("unchecked")
+    void testFlush_Batched() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            articleViewCounter.increment(1L);
+        }
+        articleViewCounter.increment(2L);
+        articleViewCounter.increment(3L);
+
+        // Act
+        articleViewCounter.flush();
+
+        // Assert
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(articleMapper, times(2)).batchIncrementViewCount(captor.capture());
+        Map<Long, Long> merged = new HashMap<>();
+        captor.getAllValues().forEach(merged::putAll);
+        assertEquals(Map.of(1L, 5L, 2L, 1L, 3L, 1L), merged);
+
+        // 已写回的增量不会重复提交
+        articleViewCounter.flush();
+        verifyNoMoreInteractions(articleMapper);
+    }
+
+    @Test
+    @DisplayName("写库失败时增量保留到下次")
+    void testFlush_RetryOnFailure() {
+        // Arrange
+        articleViewCounter.increment(1L);
+        articleViewCounter.increment(1L);
+        doThrow(new RuntimeException("db down")).doReturn(1)
+                .when(articleMapper).batchIncrementViewCount(anyMap());
+
+        // Act
+        articleViewCounter.flush();
+        articleViewCounter.flush();
+
+        // Assert
+        verify(articleMapper, times(2)).batchIncrementViewCount(Map.of(1L, 2L));
+    }
+}
@@ -0,0 +1,120 @@
+package com.hjc.blog.counter;
+
+import com.hjc.blog.mapper.CategoryMapper;
+import com.hjc.blog.mapper.TagMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * CategoryTagCounter 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("分类标签文章数计数器测试")
+class CategoryTagCounterTest {
+
+    @Mock
+    private CategoryMapper categoryMapper;
+
+    @Mock
+    private TagMapper tagMapper;
+
+    @InjectMocks
+    private CategoryTagCounter categoryTagCounter;
+
+    @Test
+    @DisplayName("直接模式下立即执行原子更新")
+    void testAdjust_Direct() {
+        // Act
+        categoryTagCounter.adjustCategory(1L, -1);
+        categoryTagCounter.adjustTags(List.of(2L, 3L), 1);
+
+        // Assert
+        verify(categoryMapper).batchAdjustArticleCount(Map.of(1L, -1L));
+        verify(tagMapper).batchAdjustArticleCount(Map.of(2L, 1L, 3L, 1L));
+    }
+
+    @Test
+    @DisplayName("缓冲模式下合并增量后一次写回")
+    void testAdjust_Buffered() {
+        // Arrange
+        ReflectionTestUtils.setField(categoryTagCounter, "buffered", true);
+        categoryTagCounter.adjustCategory(1L, 1);
+        categoryTagCounter.adjustCategory(1L, 1);
+        categoryTagCounter.adjustCategory(2L, 1);
+        categoryTagCounter.adjustCategory(2L, -1);
+        categoryTagCounter.adjustTags(List.of(3L), 1);
+        verifyNoInteractions(categoryMapper, tagMapper);
+
+        // Act
+        categoryTagCounter.flush();
+        categoryTagCounter.flush();
+
+        // Assert
+        verify(categoryMapper, times(1)).batchAdjustArticleCount(Map.of(1L, 2L));
+        verify(tagMapper, times(1)).batchAdjustArticleCount(Map.of(3L, 1L));
+    }
+
+    @Test
+    @DisplayName("写回失败的增量在下次重试")
+    void testFlush_RetryOnFailure() {
+        // Arrange
+        ReflectionTestUtils.setField(categoryTagCounter, "buffered", true);
+        categoryTagCounter.adjustCategory(1L, 1);
+        doThrow(new RuntimeException("db down")).doReturn(1)
+                .when(categoryMapper).batchAdjustArticleCount(anyMap());
+
+        // Act
+        categoryTagCounter.flush();
+        categoryTagCounter.flush();
+
+        // Assert
+        verify(categoryMapper, times(2)).batchAdjustArticleCount(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("对账时丢弃已被重新统计包含的缓冲增量，不再重复写回")
+    void testReconcile() {
+        // Arrange
+        ReflectionTestUtils.setField(categoryTagCounter, "buffered", true);
+        categoryTagCounter.adjustTags(List.of(1L), 1);
+
+        // Act
+        categoryTagCounter.reconcile();
+        categoryTagCounter.flush();
+
+        // Assert
+        verify(tagMapper).reconcileArticleCount();
+        verify(categoryMapper).reconcileArticleCount();
+        verify(tagMapper, never()).batchAdjustArticleCount(anyMap());
+    }
+
+    @Test
+    @DisplayName("对账失败时缓冲增量放回，下次照常写回")
+    void testReconcile_FailureKeepsDeltas() {
+        // Arrange
+        ReflectionTestUtils.setField(categoryTagCounter, "buffered", true);
+        categoryTagCounter.adjustCategory(1L, 1);
+        categoryTagCounter.adjustTags(List.of(2L), 1);
+        when(categoryMapper.reconcileArticleCount()).thenThrow(new RuntimeException("db down"));
+
+        // Act
+        categoryTagCounter.reconcile();
+        categoryTagCounter.flush();
+
+        // Assert：分类对账失败保留增量，标签对账成功丢弃增量
+        verify(categoryMapper).batchAdjustArticleCount(Map.of(1L, 1L));
+        verify(tagMapper).reconcileArticleCount();
+        verify(tagMapper, never()).batchAdjustArticleCount(anyMap());
+    }
+}
@@ -0,0 +1,93 @@
+package com.hjc.blog.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DeltaBuffer 单元测试
+ */
+@DisplayName("增量缓冲区测试")
+class DeltaBufferTest {
+
+    @Test
+    @DisplayName("按ID合并增量，合并为 0 的条目直接移除")
+    void testAddAndDrain() {
+        // Arrange
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(1L, 3);
+        buffer.add(1L, 2);
+        buffer.add(2L, 1);
+        buffer.add(2L, -1);
+        buffer.add(3L, 0);
+
+        // Act
+        Map<Long, Long> deltas = buffer.drain();
+
+        // Assert
+        assertEquals(Map.of(1L, 5L), deltas);
+        assertTrue(buffer.isEmpty());
+        assertTrue(buffer.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("放回的增量与新增量合并")
+    void testAddAll() {
+        // Arrange
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(1L, 2);
+
+        // Act：模拟写库失败后放回
+        buffer.addAll(Map.of(1L, 3L, 2L, -4L));
+
+        // Assert
+        assertEquals(Map.of(1L, 5L, 2L, -4L), buffer.drain());
+    }
+
+    @Test
+    @DisplayName("并发累加与取走不丢增量")
+    void testConcurrentAddAndDrain() throws Exception {
+        // Arrange：4 个线程各对 10 个ID累加 10000 次，同时不断取走
+        DeltaBuffer buffer = new DeltaBuffer();
+        int threads = 4;
+        int rounds = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < rounds; i++) {
+                    buffer.add((long) (i % 10), 1);
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        long drained = 0;
+        start.countDown();
+        while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+            drained += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        drained += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+        executor.shutdown();
+
+        // Assert
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals((long) threads * rounds, drained);
+    }
+}
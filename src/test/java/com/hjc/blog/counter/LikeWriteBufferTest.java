@@ -0,0 +1,101 @@
+package com.hjc.blog.counter;
+
+import com.hjc.blog.entity.LikeRecord;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.CommentMapper;
+import com.hjc.blog.mapper.LikeRecordMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * LikeWriteBuffer 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("点赞写回缓冲区测试")
+class LikeWriteBufferTest {
+
+    @Mock
+    private LikeRecordMapper likeRecordMapper;
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @Mock
+    private CommentMapper commentMapper;
+
+    @InjectMocks
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(likeWriteBuffer, "batchSize", 500);
+    }
+
+    @Test
+    @DisplayName("多次切换只写回最后状态，点赞数按目标合并")
+    @SuppressWarnings("unchecked")
+    void testFlush_Coalesced() {
+        // Arrange
+        List<LikeRecord> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            written.addAll(invocation.getArgument(0, Collection.class));
+            return written.size();
+        }).when(likeRecordMapper).batchUpsert(anyCollection());
+
+        likeWriteBuffer.record(1L, 10L, 1, true);
+        likeWriteBuffer.record(1L, 10L, 1, false);
+        likeWriteBuffer.record(1L, 10L, 1, true);
+        likeWriteBuffer.record(2L, 10L, 1, true);
+        likeWriteBuffer.record(3L, 20L, 2, true);
+        likeWriteBuffer.record(3L, 20L, 2, false);
+
+        // Act
+        likeWriteBuffer.flush();
+        likeWriteBuffer.flush();
+
+        // Assert
+        verify(likeRecordMapper, times(1)).batchUpsert(anyCollection());
+        assertEquals(3, written.size());
+        assertTrue(written.stream().anyMatch(r -> r.getUserId() == 1L && r.getStatus() == 1));
+        assertTrue(written.stream().anyMatch(r -> r.getUserId() == 3L && r.getStatus() == 0));
+        verify(articleMapper, times(1)).batchAdjustLikeCount(Map.of(10L, 2L));
+        // 评论点赞后又取消，净增量为 0，不写库
+        verifyNoInteractions(commentMapper);
+    }
+
+    @Test
+    @DisplayName("写回失败的批次在下次重试")
+    void testFlush_RetryOnFailure() {
+        // Arrange
+        likeWriteBuffer.record(1L, 10L, 1, true);
+        doThrow(new RuntimeException("db down")).doReturn(1)
+                .when(likeRecordMapper).batchUpsert(anyCollection());
+        doThrow(new RuntimeException("db down")).doReturn(1)
+                .when(articleMapper).batchAdjustLikeCount(Map.of(10L, 1L));
+
+        // Act
+        likeWriteBuffer.flush();
+        likeWriteBuffer.flush();
+        likeWriteBuffer.flush();
+
+        // Assert
+        verify(likeRecordMapper, times(2)).batchUpsert(anyCollection());
+        verify(articleMapper, times(2)).batchAdjustLikeCount(Map.of(10L, 1L));
+    }
+}
@@ -0,0 +1,137 @@
+package com.hjc.blog.monitor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SqlStatsFilter 单元测试
+ */
+@DisplayName("请求级 SQL 统计测试")
+class SqlStatsFilterTest {
+
+    private SimpleMeterRegistry registry;
+
+    private SqlStatsFilter filter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new SqlStatsFilter(registry);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "exposeHeaders", true);
+        ReflectionTestUtils.setField(filter, "queryBudget", 2);
+        request = new MockHttpServletRequest("GET", "/article/list");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("统计写入响应头，响应体原样输出")
+    void testExposeHeaders() throws Exception {
+        // Arrange：一次列表查询加三次重复的单条查询
+        FilterChain chain = (req, res) -> {
+            SqlStats stats = SqlStats.current();
+            stats.record("ArticleMapper.selectList", 2_000_000, 10);
+            for (int i = 0; i < 3; i++) {
+                stats.record("UserMapper.selectById", 1_000_000, 1);
+            }
+            res.getWriter().write("{\"code\":\"20000\"}");
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals("4", response.getHeader(SqlStatsFilter.HEADER_COUNT));
+        assertEquals("5", response.getHeader(SqlStatsFilter.HEADER_TIME));
+        assertEquals("13", response.getHeader(SqlStatsFilter.HEADER_ROWS));
+        assertEquals("{\"code\":\"20000\"}", response.getContentAsString());
+        assertNull(SqlStats.current());
+    }
+
+    @Test
+    @DisplayName("按接口路径模板记录语句数指标")
+    void testRecordMetrics() throws Exception {
+        // Arrange
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/article/{id}");
+            SqlStats.current().record("ArticleMapper.selectById", 1_000_000, 1);
+            SqlStats.current().record("TagMapper.selectByIds", 1_000_000, 3);
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        DistributionSummary statements = registry.get("blog.sql.request.statements")
+                .tags("method", "GET", "uri", "/article/{id}")
+                .summary();
+        assertEquals(1, statements.count());
+        assertEquals(2.0, statements.totalAmount());
+        assertEquals(4.0, registry.get("blog.sql.request.rows").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("关闭响应头时不缓存响应")
+    void testHeadersDisabled() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(filter, "exposeHeaders", false);
+        FilterChain chain = (req, res) -> {
+            assertSame(response, res);
+            SqlStats.current().record("ArticleMapper.selectById", 1_000_000, 1);
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertNull(response.getHeader(SqlStatsFilter.HEADER_COUNT));
+        assertNull(SqlStats.current());
+    }
+
+    @Test
+    @DisplayName("请求异常时同样清理统计")
+    void testCleanupOnException() {
+        // Arrange
+        FilterChain chain = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, response, chain));
+        assertNull(SqlStats.current());
+    }
+
+    @Test
+    @DisplayName("明细按执行次数排序")
+    void testSummary() {
+        // Arrange
+        SqlStats stats = SqlStats.begin();
+        try {
+            stats.record("ArticleMapper.selectList", 1_000_000, 10);
+            stats.record("TagMapper.selectById", 1_000_000, 1);
+            stats.record("TagMapper.selectById", 1_000_000, 1);
+
+            // Act
+            String summary = stats.summary(1);
+
+            // Assert
+            assertEquals("TagMapper.selectById ×2 (2 ms)", summary);
+        } finally {
+            SqlStats.end();
+        }
+    }
+}
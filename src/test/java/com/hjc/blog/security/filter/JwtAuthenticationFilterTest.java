@@ -0,0 +1,124 @@
+package com.hjc.blog.security.filter;
+
+import com.hjc.blog.common.utils.JwtUtil;
+import com.hjc.blog.security.jwt.JwtClaims;
+import com.hjc.blog.security.jwt.TokenRevocationRegistry;
+import com.hjc.blog.security.service.CustomUserDetailsService;
+import com.hjc.blog.security.user.BlogUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * JwtAuthenticationFilter 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JWT认证过滤器测试")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    private JwtAuthenticationFilter filter;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenRevocationRegistry, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+        filter.afterPropertiesSet();
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("无状态模式 - 未吊销的 Token 直接由声明构建用户，不查库")
+    void testStateless_Accepted() throws Exception {
+        // Arrange
+        JwtClaims claims = claims();
+        when(jwtUtil.parse("token")).thenReturn(claims);
+        when(tokenRevocationRegistry.isRevoked(claims)).thenReturn(false);
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        BlogUserDetails principal = (BlogUserDetails) authentication.getPrincipal();
+        assertEquals(1L, principal.getUserId());
+        assertTrue(principal.isEnabled());
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority())));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("无状态模式 - 已吊销的 Token 不设置认证信息，请求继续以匿名身份处理")
+    void testStateless_Revoked() throws Exception {
+        // Arrange
+        JwtClaims claims = claims();
+        when(jwtUtil.parse("token")).thenReturn(claims);
+        when(tokenRevocationRegistry.isRevoked(claims)).thenReturn(true);
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("关闭无状态模式 - 每次请求查库加载用户")
+    void testStateful_LoadsUser() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", false);
+        when(jwtUtil.parse("token")).thenReturn(claims());
+        when(userDetailsService.loadUserByUsername("admin"))
+                .thenReturn(BlogUserDetails.create(1L, "admin", "pwd", "ROLE_ADMIN", 1));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(tokenRevocationRegistry, never()).isRevoked(any());
+    }
+
+    private JwtClaims claims() {
+        long now = System.currentTimeMillis();
+        return new JwtClaims(1L, "admin", "ROLE_ADMIN", new Date(now), new Date(now + 3600_000));
+    }
+}
@@ -0,0 +1,131 @@
+package com.hjc.blog.security.jwt;
+
+import com.hjc.blog.common.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenRevocationRegistry 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token吊销登记表测试")
+class TokenRevocationRegistryTest {
+
+    private static final long EXPIRATION = 7 * 24 * 3600 * 1000L;
+
+    private static final String SECRET = "blog-secret-key-for-jwt-token-generation-2024-blog-secret-key-for-jwt";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @InjectMocks
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(registry, "expiration", EXPIRATION);
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("吊销 - 此前签发的 Token 失效，之后签发的有效")
+    void testRevoke_IssuedAtBoundary() {
+        // Act
+        registry.revoke(1L);
+
+        // Assert：吊销时间按毫秒记录并同步到 Redis
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(hashOperations).put(eq("blog:auth:revoked"), eq("1"), captor.capture());
+        long revokedAt = Long.parseLong(captor.getValue().toString());
+        assertTrue(revokedAt <= System.currentTimeMillis());
+
+        assertTrue(registry.isRevoked(claims(1L, revokedAt - 1)));
+        assertFalse(registry.isRevoked(claims(1L, revokedAt)));
+        assertTrue(registry.isRevoked(claims(1L, null)));
+        assertFalse(registry.isRevoked(claims(2L, revokedAt - 1)));
+    }
+
+    @Test
+    @DisplayName("吊销 - 同一秒内紧接着签发的新 Token 有效")
+    void testRevoke_ReissuedInSameSecond() throws InterruptedException {
+        // Arrange：避开秒末，保证吊销与重新签发落在同一秒
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        jwtUtil.init();
+        while (System.currentTimeMillis() % 1000 > 500) {
+            Thread.sleep(10);
+        }
+        JwtClaims before = jwtUtil.parse(jwtUtil.generateToken(1L, "user1", "ROLE_USER"));
+        Thread.sleep(2);
+
+        // Act
+        registry.revoke(1L);
+        JwtClaims after = jwtUtil.parse(jwtUtil.generateToken(1L, "user1", "ROLE_USER"));
+
+        // Assert
+        assertEquals(before.getIssuedAt().getTime() / 1000, after.getIssuedAt().getTime() / 1000);
+        assertTrue(registry.isRevoked(before));
+        assertFalse(registry.isRevoked(after));
+    }
+
+    @Test
+    @DisplayName("吊销 - Redis 不可用时本地仍然生效")
+    void testRevoke_RedisDown() {
+        // Arrange
+        doThrow(new RuntimeException("connection refused")).when(hashOperations).put(any(), any(), any());
+
+        // Act
+        registry.revoke(1L);
+
+        // Assert
+        assertTrue(registry.isRevoked(claims(1L, System.currentTimeMillis() - 1000)));
+    }
+
+    @Test
+    @DisplayName("刷新 - 拉取其他实例的吊销记录并清理过期记录")
+    void testRefresh() {
+        // Arrange：用户 5 刚被其他实例吊销，用户 6 的记录早于 Token 有效期
+        long now = System.currentTimeMillis();
+        long revokedAt = (now / 1000) * 1000;
+        when(hashOperations.entries("blog:auth:revoked")).thenReturn(Map.of(
+                "5", Long.toString(revokedAt),
+                "6", Long.toString(now - EXPIRATION - 1000)
+        ));
+
+        // Act
+        registry.refresh();
+
+        // Assert
+        assertTrue(registry.isRevoked(claims(5L, revokedAt - 1000)));
+        assertFalse(registry.isRevoked(claims(5L, revokedAt)));
+        assertFalse(registry.isRevoked(claims(6L, now - EXPIRATION)));
+        verify(hashOperations).delete("blog:auth:revoked", "6");
+    }
+
+    private JwtClaims claims(Long userId, Long issuedAt) {
+        return new JwtClaims(userId, "user" + userId, "ROLE_USER",
+                issuedAt == null ? null : new Date(issuedAt), null);
+    }
+}
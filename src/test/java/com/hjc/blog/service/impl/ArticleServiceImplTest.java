@@ -0,0 +1,666 @@
+package com.hjc.blog.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.hjc.blog.cache.ArticleDetailCache;
+import com.hjc.blog.cache.ArticleFeedCache;
+import com.hjc.blog.cache.HotArticleRanking;
+import com.hjc.blog.cache.ReferenceDataCache;
+import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.common.utils.CursorUtil;
+import com.hjc.blog.common.utils.MarkdownUtil;
+import com.hjc.blog.counter.ArticleViewCounter;
+import com.hjc.blog.counter.CategoryTagCounter;
+import com.hjc.blog.dto.ArticleDto;
+import com.hjc.blog.dto.ArticleQueryDto;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.entity.ArticleTag;
+import com.hjc.blog.entity.Category;
+import com.hjc.blog.entity.Tag;
+import com.hjc.blog.entity.User;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.ArticleTagMapper;
+import com.hjc.blog.mapper.CategoryMapper;
+import com.hjc.blog.mapper.CollectMapper;
+import com.hjc.blog.mapper.TagMapper;
+import com.hjc.blog.mapper.UserMapper;
+import com.hjc.blog.service.LikeService;
+import com.hjc.blog.vo.ArticleListVo;
+import com.hjc.blog.vo.ArticleVo;
+import com.hjc.blog.vo.CursorPageVo;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ArticleService 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("文章服务测试")
+class ArticleServiceImplTest {
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @Mock
+    private ArticleTagMapper articleTagMapper;
+
+    @Mock
+    private CategoryMapper categoryMapper;
+
+    @Mock
+    private TagMapper tagMapper;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private ArticleDetailCache articleDetailCache;
+
+    @Mock
+    private ArticleViewCounter articleViewCounter;
+
+    @Mock
+    private CategoryTagCounter categoryTagCounter;
+
+    @Mock
+    private CollectMapper collectMapper;
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private HotArticleRanking hotArticleRanking;
+
+    @Mock
+    private ArticleFeedCache articleFeedCache;
+
+    @Spy
+    private MarkdownUtil markdownUtil = new MarkdownUtil();
+
+    @InjectMocks
+    private ArticleServiceImpl articleService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        // LambdaQueryWrapper 依赖实体的表信息缓存
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(new MybatisConfiguration(), "");
+        TableInfoHelper.initTableInfo(assistant, Article.class);
+        TableInfoHelper.initTableInfo(assistant, User.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(articleService, "baseMapper", articleMapper);
+
+        // 使用真实的本地缓存，底层 Mapper 为 Mock，便于校验实际查询次数
+        ReferenceDataCache referenceDataCache = new ReferenceDataCache(categoryMapper, tagMapper, userMapper);
+        ReflectionTestUtils.setField(referenceDataCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(referenceDataCache, "ttl", Duration.ofMinutes(10));
+        referenceDataCache.init();
+        ReflectionTestUtils.setField(articleService, "referenceDataCache", referenceDataCache);
+    }
+
+    @Test
+    @DisplayName("文章列表 - 批量补全分类、标签和作者信息")
+    void testListArticles_BatchEnrichment() {
+        // Arrange
+        List<Article> articles = List.of(
+                article(1L, 10L, 100L),
+                article(2L, 10L, 100L),
+                article(3L, 20L, 200L)
+        );
+        Page<Article> articlePage = new Page<>(1, 10, 3);
+        articlePage.setRecords(articles);
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(articlePage);
+
+        when(categoryMapper.selectByIds(anyCollection())).thenReturn(List.of(
+                category(10L, "后端技术"),
+                category(20L, "前端开发")
+        ));
+        when(articleTagMapper.selectByArticleIds(anyCollection())).thenReturn(List.of(
+                articleTag(1L, 1L),
+                articleTag(1L, 2L),
+                articleTag(3L, 2L)
+        ));
+        when(tagMapper.selectByIds(anyCollection())).thenReturn(List.of(
+                tag(1L, "Java"),
+                tag(2L, "Spring Boot")
+        ));
+        when(userMapper.selectList(any(Wrapper.class))).thenReturn(List.of(
+                author(100L, "admin", "超级管理员"),
+                author(200L, "test", null)
+        ));
+
+        // Act
+        Page<ArticleListVo> result = articleService.listArticles(new ArticleQueryDto(), null);
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        List<ArticleListVo> records = result.getRecords();
+        assertEquals(3, records.size());
+
+        assertEquals("后端技术", records.get(0).getCategoryName());
+        assertEquals(List.of(1L, 2L), records.get(0).getTagIds());
+        assertEquals(List.of("Java", "Spring Boot"), records.get(0).getTagNames());
+        assertEquals("超级管理员", records.get(0).getAuthorName());
+
+        assertTrue(records.get(1).getTagIds().isEmpty());
+        assertNull(records.get(1).getTagNames());
+
+        assertEquals("前端开发", records.get(2).getCategoryName());
+        assertEquals(List.of("Spring Boot"), records.get(2).getTagNames());
+        assertEquals("test", records.get(2).getAuthorName());
+
+        // 每类数据只查询一次，与分页大小无关
+        verify(categoryMapper, times(1)).selectByIds(anyCollection());
+        verify(articleTagMapper, times(1)).selectByArticleIds(anyCollection());
+        verify(tagMapper, times(1)).selectByIds(anyCollection());
+        verify(userMapper, times(1)).selectList(any(Wrapper.class));
+        verify(categoryMapper, never()).selectById(any());
+        verify(tagMapper, never()).selectById(any());
+        verify(userMapper, never()).selectById(any());
+        verify(articleTagMapper, never()).selectTagIdsByArticleId(any());
+    }
+
+    @Test
+    @DisplayName("文章列表 - 基础数据命中本地缓存后不再查库")
+    void testListArticles_ReferenceDataCached() {
+        // Arrange
+        Page<Article> articlePage = new Page<>(1, 10, 1);
+        articlePage.setRecords(List.of(article(1L, 10L, 100L)));
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(articlePage);
+        when(categoryMapper.selectByIds(anyCollection())).thenReturn(List.of(category(10L, "后端技术")));
+        when(articleTagMapper.selectByArticleIds(anyCollection())).thenReturn(List.of(articleTag(1L, 1L)));
+        when(tagMapper.selectByIds(anyCollection())).thenReturn(List.of(tag(1L, "Java")));
+        when(userMapper.selectList(any(Wrapper.class))).thenReturn(List.of(author(100L, "admin", "超级管理员")));
+
+        // Act
+        articleService.listArticles(new ArticleQueryDto(), null);
+        Page<ArticleListVo> result = articleService.listArticles(new ArticleQueryDto(), null);
+
+        // Assert
+        ArticleListVo vo = result.getRecords().get(0);
+        assertEquals("后端技术", vo.getCategoryName());
+        assertEquals(List.of("Java"), vo.getTagNames());
+        assertEquals("超级管理员", vo.getAuthorName());
+        verify(categoryMapper, times(1)).selectByIds(anyCollection());
+        verify(tagMapper, times(1)).selectByIds(anyCollection());
+        verify(userMapper, times(1)).selectList(any(Wrapper.class));
+        verify(articleTagMapper, times(2)).selectByArticleIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("文章列表 - 空页不触发补全查询")
+    void testListArticles_EmptyPage() {
+        // Arrange
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(new Page<>(1, 10, 0));
+
+        // Act
+        Page<ArticleListVo> result = articleService.listArticles(new ArticleQueryDto(), null);
+
+        // Assert
+        assertTrue(result.getRecords().isEmpty());
+        verifyNoInteractions(categoryMapper, articleTagMapper, tagMapper, userMapper);
+    }
+
+    @Test
+    @DisplayName("文章列表 - 关键词按相关度排序走全文索引")
+    void testListArticles_FulltextRelevance() {
+        // Arrange
+        ArticleQueryDto query = new ArticleQueryDto();
+        query.setKeyword(" Spring  Boot+\"入门\" ");
+        query.setOrderBy("relevance");
+        when(articleMapper.selectPageByRelevance(any(), any(), any())).thenReturn(new Page<>(1, 10, 0));
+
+        // Act
+        articleService.listArticles(query, null);
+
+        // Assert
+        verify(articleMapper).selectPageByRelevance(any(), any(), eq("+Spring +Boot +入门"));
+        verify(articleMapper, never()).selectPage(any(), any());
+    }
+
+    @Test
+    @DisplayName("游标分页 - 多取一行判断下一页且不查总数")
+    void testListArticlesByCursor() {
+        // Arrange
+        ArticleQueryDto query = new ArticleQueryDto();
+        query.setPageSize(2);
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Article> rows = List.of(
+                article(3L, 10L, 100L),
+                article(2L, 10L, 100L),
+                article(1L, 10L, 100L)
+        );
+        rows.forEach(row -> {
+            row.setIsTop(0);
+            row.setCreateTime(time);
+        });
+        when(articleMapper.selectList(any(Wrapper.class))).thenReturn(new ArrayList<>(rows));
+
+        // Act
+        CursorPageVo<ArticleListVo> result = articleService.listArticlesByCursor(query, null);
+
+        // Assert
+        assertTrue(result.getHasMore());
+        assertEquals(2, result.getRecords().size());
+        assertEquals(List.of(3L, 2L), result.getRecords().stream().map(ArticleListVo::getId).toList());
+        assertEquals(CursorUtil.encode(0, time, 2L), result.getNextCursor());
+        verify(articleMapper, never()).selectCount(any());
+
+        // 使用返回的游标继续查询最后一页
+        query.setCursor(result.getNextCursor());
+        when(articleMapper.selectList(any(Wrapper.class))).thenReturn(new ArrayList<>(rows.subList(2, 3)));
+        CursorPageVo<ArticleListVo> next = articleService.listArticlesByCursor(query, null);
+        assertFalse(next.getHasMore());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("游标分页 - 非法游标")
+    void testListArticlesByCursor_InvalidCursor() {
+        ArticleQueryDto query = new ArticleQueryDto();
+        query.setCursor("not-a-cursor");
+
+        assertThrows(BusinessException.class, () -> articleService.listArticlesByCursor(query, null));
+    }
+
+    @Test
+    @DisplayName("文章列表 - 各查询路径都不加载正文大字段")
+    @SuppressWarnings("unchecked")
+    void testListQueries_ExcludeContentColumns() {
+        // Arrange
+        ArgumentCaptor<Wrapper<Article>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(new Page<>(1, 10, 0));
+        when(articleMapper.selectPageByRelevance(any(), any(), any())).thenReturn(new Page<>(1, 10, 0));
+        when(articleMapper.selectList(any(Wrapper.class))).thenReturn(new ArrayList<>());
+        ArticleQueryDto relevanceQuery = new ArticleQueryDto();
+        relevanceQuery.setKeyword("Spring");
+        relevanceQuery.setOrderBy("relevance");
+
+        // Act
+        articleService.listArticles(new ArticleQueryDto(), null);
+        articleService.listArticles(relevanceQuery, null);
+        articleService.listArticlesByCursor(new ArticleQueryDto(), null);
+
+        // Assert
+        verify(articleMapper).selectPage(any(IPage.class), captor.capture());
+        verify(articleMapper).selectPageByRelevance(any(), captor.capture(), any());
+        verify(articleMapper).selectList(captor.capture());
+        for (Wrapper<Article> wrapper : captor.getAllValues()) {
+            Set<String> columns = Arrays.stream(wrapper.getSqlSelect().split(","))
+                    .map(String::trim)
+                    .collect(Collectors.toSet());
+            assertTrue(columns.containsAll(Set.of("id", "title", "summary", "author_id", "create_time")));
+            assertFalse(columns.contains("content"));
+            assertFalse(columns.contains("content_html"));
+        }
+    }
+
+    @Test
+    @DisplayName("文章列表 - 标签筛选使用 EXISTS 子查询")
+    @SuppressWarnings("unchecked")
+    void testListArticles_TagFilterExists() {
+        // Arrange
+        ArgumentCaptor<Wrapper<Article>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(new Page<>(1, 10, 0));
+        ArticleQueryDto anyQuery = new ArticleQueryDto();
+        anyQuery.setTagId(1L);
+        anyQuery.setTagIds(List.of(1L, 2L));
+        ArticleQueryDto allQuery = new ArticleQueryDto();
+        allQuery.setTagIds(List.of(1L, 2L, 3L));
+        allQuery.setTagMatch("all");
+
+        // Act
+        articleService.listArticles(anyQuery, null);
+        articleService.listArticles(allQuery, null);
+
+        // Assert
+        verify(articleMapper, times(2)).selectPage(any(IPage.class), captor.capture());
+        String anySql = captor.getAllValues().get(0).getCustomSqlSegment();
+        String allSql = captor.getAllValues().get(1).getCustomSqlSegment();
+        assertEquals(1, countOccurrences(anySql, "EXISTS"));
+        assertTrue(anySql.contains("atg.tag_id IN ("));
+        assertEquals(3, countOccurrences(allSql, "EXISTS"));
+        verify(articleTagMapper, never()).selectArticleIdsByTagId(any());
+    }
+
+    @Test
+    @DisplayName("文章列表 - 标签筛选数量超限")
+    void testListArticles_TooManyTags() {
+        ArticleQueryDto query = new ArticleQueryDto();
+        query.setTagIds(LongStream.rangeClosed(1, 11).boxed().toList());
+
+        assertThrows(BusinessException.class, () -> articleService.listArticles(query, null));
+    }
+
+    @Test
+    @DisplayName("文章详情 - 命中缓存不查库")
+    void testGetArticleDetail_CacheHit() {
+        // Arrange
+        ArticleVo cached = ArticleVo.builder().id(1L).title("文章1").build();
+        when(articleDetailCache.get(1L)).thenReturn(cached);
+
+        // Act
+        ArticleVo result = articleService.getArticleDetail(1L);
+
+        // Assert
+        assertSame(cached, result);
+        verify(articleViewCounter).increment(1L);
+        verify(articleMapper, never()).incrementViewCount(any());
+        verify(articleMapper, never()).selectById(any());
+        verify(articleDetailCache, never()).put(any());
+        verifyNoInteractions(categoryMapper, articleTagMapper, tagMapper, userMapper);
+    }
+
+    @Test
+    @DisplayName("文章详情 - 未命中时查库并回填缓存")
+    void testGetArticleDetail_CacheMiss() {
+        // Arrange
+        when(articleMapper.selectById(1L)).thenReturn(article(1L, 10L, 100L));
+
+        // Act
+        ArticleVo result = articleService.getArticleDetail(1L);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verify(articleDetailCache).put(result);
+    }
+
+    @Test
+    @DisplayName("更新文章 - 标签关联只增删有变化的部分")
+    void testUpdateArticle_TagDiff() {
+        // Arrange
+        Article article = article(1L, 10L, 100L);
+        article.setContent("# 正文");
+        when(articleMapper.selectById(1L)).thenReturn(article);
+        Category category = category(10L, "Java");
+        category.setStatus(1);
+        when(categoryMapper.selectById(10L)).thenReturn(category);
+        Tag disabled = tag(4L, "已禁用");
+        disabled.setStatus(0);
+        when(tagMapper.selectByIds(anyCollection())).thenReturn(List.of(tag(2L, "Spring"), tag(3L, "Redis"), disabled));
+        when(articleTagMapper.selectTagIdsByArticleId(1L)).thenReturn(List.of(1L, 2L));
+
+        ArticleDto request = new ArticleDto();
+        request.setTitle("文章1");
+        request.setContent("# 正文");
+        request.setCategoryId(10L);
+        request.setTagIds(List.of(2L, 3L, 4L, 3L));
+
+        // Act
+        articleService.updateArticle(1L, request, 100L, false);
+
+        // Assert
+        verify(tagMapper, times(1)).selectByIds(anyCollection());
+        verify(tagMapper, never()).selectById(any());
+        verify(articleTagMapper).deleteByArticleIdAndTagIds(1L, List.of(1L));
+        verify(articleTagMapper).insertBatch(1L, List.of(3L));
+        verify(articleTagMapper, never()).deleteByArticleId(any());
+        verify(articleTagMapper, never()).insert(any(ArticleTag.class));
+        verify(categoryTagCounter).adjustTags(List.of(1L), -1);
+        verify(categoryTagCounter).adjustTags(List.of(3L), 1);
+    }
+
+    @Test
+    @DisplayName("更新文章 - 标签未变化时不写关联表")
+    void testUpdateArticle_TagsUnchanged() {
+        // Arrange
+        when(articleMapper.selectById(1L)).thenReturn(article(1L, 10L, 100L));
+        Category category = category(10L, "Java");
+        category.setStatus(1);
+        when(categoryMapper.selectById(10L)).thenReturn(category);
+        when(tagMapper.selectByIds(anyCollection())).thenReturn(List.of(tag(1L, "Java"), tag(2L, "Spring")));
+        when(articleTagMapper.selectTagIdsByArticleId(1L)).thenReturn(List.of(2L, 1L));
+
+        ArticleDto request = new ArticleDto();
+        request.setTitle("文章1");
+        request.setContent("# 正文");
+        request.setCategoryId(10L);
+        request.setTagIds(List.of(1L, 2L));
+
+        // Act
+        articleService.updateArticle(1L, request, 100L, false);
+
+        // Assert
+        verify(articleTagMapper, never()).deleteByArticleIdAndTagIds(any(), anyCollection());
+        verify(articleTagMapper, never()).insertBatch(any(), anyCollection());
+        verify(categoryTagCounter, never()).adjustTags(anyCollection(), anyInt());
+    }
+
+    @Test
+    @DisplayName("更新文章 - 正文未变化时不重新渲染，也不回写正文和HTML")
+    void testUpdateArticle_ContentUnchanged() {
+        // Arrange：库中已有当前正文的渲染结果
+        Article article = article(1L, 10L, 100L);
+        article.setContent("# 正文");
+        article.setContentHash(markdownUtil.hash("# 正文"));
+        article.setContentHtml("<h1>正文</h1>");
+        when(articleMapper.selectById(1L)).thenReturn(article);
+        Category category = category(10L, "Java");
+        category.setStatus(1);
+        when(categoryMapper.selectById(10L)).thenReturn(category);
+        when(articleTagMapper.selectTagIdsByArticleId(1L)).thenReturn(List.of());
+
+        ArticleDto request = new ArticleDto();
+        request.setTitle("新标题");
+        request.setContent("# 正文");
+        request.setCategoryId(10L);
+
+        // Act
+        articleService.updateArticle(1L, request, 100L, false);
+
+        // Assert
+        verify(markdownUtil, never()).render(any());
+        ArgumentCaptor<Article> captor = ArgumentCaptor.forClass(Article.class);
+        verify(articleMapper).updateById(captor.capture());
+        assertEquals("新标题", captor.getValue().getTitle());
+        assertNull(captor.getValue().getContent());
+        assertNull(captor.getValue().getContentHtml());
+        assertNull(captor.getValue().getContentHash());
+    }
+
+    @Test
+    @DisplayName("文章列表 - 登录用户批量补充点赞、收藏状态")
+    void testListArticles_UserFlags() {
+        // Arrange
+        Page<Article> articlePage = new Page<>(1, 10, 3);
+        articlePage.setRecords(List.of(article(1L, 10L, 100L), article(2L, 10L, 100L), article(3L, 10L, 100L)));
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(articlePage);
+        when(likeService.listLikedTargetIds(eq(100L), anyCollection(), eq(1))).thenReturn(Set.of(1L));
+        when(collectMapper.selectCollectedArticleIds(eq(100L), anyCollection())).thenReturn(List.of(1L, 3L));
+
+        // Act
+        List<ArticleListVo> records = articleService.listArticles(new ArticleQueryDto(), 100L).getRecords();
+
+        // Assert
+        assertEquals(List.of(true, false, false), records.stream().map(ArticleListVo::getLiked).toList());
+        assertEquals(List.of(true, false, true), records.stream().map(ArticleListVo::getCollected).toList());
+        // 每类状态只查询一次，与分页大小无关
+        verify(likeService, times(1)).listLikedTargetIds(eq(100L), eq(List.of(1L, 2L, 3L)), eq(1));
+        verify(collectMapper, times(1)).selectCollectedArticleIds(eq(100L), anyCollection());
+    }
+
+    @Test
+    @DisplayName("文章列表 - 未登录不查询点赞、收藏状态")
+    void testListArticles_Anonymous() {
+        // Arrange
+        Page<Article> articlePage = new Page<>(1, 10, 1);
+        articlePage.setRecords(List.of(article(1L, 10L, 100L)));
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(articlePage);
+
+        // Act
+        List<ArticleListVo> records = articleService.listArticles(new ArticleQueryDto(), null).getRecords();
+
+        // Assert
+        assertNull(records.get(0).getLiked());
+        assertNull(records.get(0).getCollected());
+        verifyNoInteractions(likeService, collectMapper);
+    }
+
+    @Test
+    @DisplayName("热门排序 - 直接读取榜单快照，不查库")
+    @SuppressWarnings("unchecked")
+    void testListArticlesByCursor_Hot() {
+        // Arrange：榜单共 3 篇，每页 2 篇
+        ArticleListVo first = new ArticleListVo();
+        first.setId(7L);
+        ArticleListVo second = new ArticleListVo();
+        second.setId(3L);
+        when(hotArticleRanking.isReady()).thenReturn(true);
+        when(hotArticleRanking.page(0, 2)).thenReturn(List.of(first, second));
+        when(hotArticleRanking.total()).thenReturn(3);
+        ArticleQueryDto request = new ArticleQueryDto();
+        request.setOrderBy("hot");
+        request.setPageSize(2);
+
+        // Act
+        CursorPageVo<ArticleListVo> result = articleService.listArticlesByCursor(request, null);
+
+        // Assert
+        assertEquals(List.of(7L, 3L), result.getRecords().stream().map(ArticleListVo::getId).toList());
+        assertTrue(result.getHasMore());
+        assertArrayEquals(new String[]{"hot", "2"}, CursorUtil.decode(result.getNextCursor(), 2));
+        verifyNoInteractions(articleMapper, articleTagMapper);
+    }
+
+    @Test
+    @DisplayName("热门排序 - 榜单未就绪时按点赞数查库")
+    @SuppressWarnings("unchecked")
+    void testListArticles_HotNotReady() {
+        // Arrange
+        when(hotArticleRanking.isReady()).thenReturn(false);
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(new Page<>(1, 10, 0));
+        ArticleQueryDto request = new ArticleQueryDto();
+        request.setOrderBy("hot");
+
+        // Act
+        articleService.listArticles(request, null);
+
+        // Assert
+        ArgumentCaptor<Wrapper<Article>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        verify(articleMapper).selectPage(any(IPage.class), captor.capture());
+        assertTrue(captor.getValue().getCustomSqlSegment().contains("like_count DESC"));
+    }
+
+    @Test
+    @DisplayName("热门排序 - 带筛选条件时不读榜单快照，按点赞数查库")
+    @SuppressWarnings("unchecked")
+    void testListArticles_HotWithFilters() {
+        // Arrange：榜单已就绪，但请求按分类和关键词筛选
+        lenient().when(hotArticleRanking.isReady()).thenReturn(true);
+        when(articleMapper.selectPage(any(IPage.class), any(Wrapper.class))).thenReturn(new Page<>(1, 10, 0));
+        ArticleQueryDto request = new ArticleQueryDto();
+        request.setOrderBy("hot");
+        request.setCategoryId(2L);
+        request.setKeyword("java");
+
+        // Act
+        articleService.listArticles(request, null);
+
+        // Assert
+        ArgumentCaptor<Wrapper<Article>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        verify(articleMapper).selectPage(any(IPage.class), captor.capture());
+        String sql = captor.getValue().getCustomSqlSegment();
+        assertTrue(sql.contains("category_id"));
+        assertTrue(sql.contains("like_count DESC"));
+        verify(hotArticleRanking, never()).page(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("首页默认查询 - 命中快照不查库，仍补充当前用户状态")
+    @SuppressWarnings("unchecked")
+    void testListArticles_FeedSnapshot() {
+        // Arrange
+        ArticleFeedCache.FeedKey key = new ArticleFeedCache.FeedKey(null, null, null, 1, 10);
+        ArticleListVo item = new ArticleListVo();
+        item.setId(1L);
+        Page<ArticleListVo> snapshot = new Page<>(1, 10, 1);
+        snapshot.setRecords(List.of(item));
+        when(articleFeedCache.keyOf(any(ArticleQueryDto.class))).thenReturn(key);
+        when(articleFeedCache.get(eq(key), any())).thenReturn(snapshot);
+        when(likeService.listLikedTargetIds(eq(100L), anyCollection(), eq(1))).thenReturn(Set.of(1L));
+        when(collectMapper.selectCollectedArticleIds(eq(100L), anyCollection())).thenReturn(List.of());
+
+        // Act
+        Page<ArticleListVo> result = articleService.listArticles(new ArticleQueryDto(), 100L);
+
+        // Assert
+        assertEquals(1L, result.getTotal());
+        assertTrue(result.getRecords().get(0).getLiked());
+        assertFalse(result.getRecords().get(0).getCollected());
+        verify(articleMapper, never()).selectPage(any(IPage.class), any(Wrapper.class));
+    }
+
+    private int countOccurrences(String text, String token) {
+        return text.split(token, -1).length - 1;
+    }
+
+    private Article article(Long id, Long categoryId, Long authorId) {
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle("文章" + id);
+        article.setCategoryId(categoryId);
+        article.setAuthorId(authorId);
+        article.setStatus(1);
+        return article;
+    }
+
+    private Category category(Long id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        return category;
+    }
+
+    private ArticleTag articleTag(Long articleId, Long tagId) {
+        ArticleTag articleTag = new ArticleTag();
+        articleTag.setArticleId(articleId);
+        articleTag.setTagId(tagId);
+        return articleTag;
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        tag.setStatus(1);
+        return tag;
+    }
+
+    private User author(Long id, String username, String nickname) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setNickname(nickname);
+        return user;
+    }
+}
@@ -7,12 +7,15 @@ import com.hjc.blog.dto.LoginDto;
 import com.hjc.blog.dto.RegisterDto;
 import com.hjc.blog.entity.User;
 import com.hjc.blog.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -37,6 +40,9 @@ class AuthServiceImplTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -100,6 +106,7 @@ class AuthServiceImplTest {
 
         verify(userService).getByUsername("testuser");
         verify(passwordEncoder).matches("123456", "$2a$10$encodedPassword");
+        assertEquals(1, meterRegistry.timer("blog.auth.password.verify").count());
         verify(jwtUtil).generateToken(1L, "testuser", "USER");
         verify(userService).updateLastLoginInfo(1L, "127.0.0.1");
     }
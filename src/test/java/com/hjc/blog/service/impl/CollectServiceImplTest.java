@@ -0,0 +1,230 @@
+package com.hjc.blog.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.hjc.blog.cache.CollectFolderCache;
+import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.common.utils.CursorUtil;
+import com.hjc.blog.dto.CollectDto;
+import com.hjc.blog.dto.CollectQueryDto;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.entity.Collect;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.CollectMapper;
+import com.hjc.blog.vo.CollectFolderVo;
+import com.hjc.blog.vo.CollectVo;
+import com.hjc.blog.vo.CursorPageVo;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CollectService 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("收藏服务测试")
+class CollectServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private CollectMapper collectMapper;
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @Mock
+    private CollectFolderCache collectFolderCache;
+
+    @InjectMocks
+    private CollectServiceImpl collectService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        // LambdaQueryWrapper 依赖实体的表信息缓存
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(new MybatisConfiguration(), "");
+        TableInfoHelper.initTableInfo(assistant, Article.class);
+        TableInfoHelper.initTableInfo(assistant, Collect.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(collectService, "baseMapper", collectMapper);
+    }
+
+    @Test
+    @DisplayName("收藏 - 新增收藏时增加收藏数并清除收藏夹缓存")
+    void testCollect_Insert() {
+        // Arrange
+        when(articleMapper.selectCount(any())).thenReturn(1L);
+        when(collectMapper.restoreDeleted(any())).thenReturn(0);
+        when(collectMapper.insertIgnore(any())).thenReturn(1);
+
+        // Act
+        collectService.collect(100L, 1L, null);
+
+        // Assert
+        ArgumentCaptor<Collect> captor = ArgumentCaptor.forClass(Collect.class);
+        verify(collectMapper).insertIgnore(captor.capture());
+        assertEquals("default", captor.getValue().getFolderName());
+        verify(articleMapper).incrementCollectCount(1L);
+        verify(collectFolderCache).evict(100L);
+    }
+
+    @Test
+    @DisplayName("收藏 - 恢复已取消的收藏时不再插入")
+    void testCollect_Restore() {
+        // Arrange
+        when(articleMapper.selectCount(any())).thenReturn(1L);
+        when(collectMapper.restoreDeleted(any())).thenReturn(1);
+        CollectDto request = new CollectDto();
+        request.setFolderName(" Java ");
+
+        // Act
+        collectService.collect(100L, 1L, request);
+
+        // Assert
+        ArgumentCaptor<Collect> captor = ArgumentCaptor.forClass(Collect.class);
+        verify(collectMapper).restoreDeleted(captor.capture());
+        assertEquals("Java", captor.getValue().getFolderName());
+        verify(collectMapper, never()).insertIgnore(any());
+        verify(articleMapper).incrementCollectCount(1L);
+    }
+
+    @Test
+    @DisplayName("收藏 - 重复收藏不重复计数")
+    void testCollect_Duplicate() {
+        // Arrange
+        when(articleMapper.selectCount(any())).thenReturn(1L);
+        when(collectMapper.restoreDeleted(any())).thenReturn(0);
+        when(collectMapper.insertIgnore(any())).thenReturn(0);
+
+        // Act
+        collectService.collect(100L, 1L, new CollectDto());
+
+        // Assert
+        verify(articleMapper, never()).incrementCollectCount(any());
+        verifyNoInteractions(collectFolderCache);
+    }
+
+    @Test
+    @DisplayName("收藏 - 文章不存在或未发布")
+    void testCollect_ArticleNotExist() {
+        // Arrange
+        when(articleMapper.selectCount(any())).thenReturn(0L);
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> collectService.collect(100L, 1L, null));
+        verifyNoInteractions(collectMapper, collectFolderCache);
+    }
+
+    @Test
+    @DisplayName("取消收藏 - 只有实际取消时才减少收藏数")
+    void testUncollect() {
+        // Arrange
+        when(collectMapper.softDelete(100L, 1L)).thenReturn(1, 0);
+
+        // Act
+        collectService.uncollect(100L, 1L);
+        collectService.uncollect(100L, 1L);
+
+        // Assert
+        verify(articleMapper, times(1)).decrementCollectCount(1L);
+        verify(collectFolderCache, times(1)).evict(100L);
+    }
+
+    @Test
+    @DisplayName("我的收藏 - 游标分页，文章信息一次查询补全")
+    @SuppressWarnings("unchecked")
+    void testListCollects() {
+        // Arrange：每页 2 条，多取 1 条判断是否有下一页
+        List<Collect> rows = LongStream.rangeClosed(1, 3)
+                .mapToObj(i -> collect(10 - i, i, NOW.minusMinutes(i)))
+                .toList();
+        when(collectMapper.selectList(any(Wrapper.class))).thenReturn(rows);
+        Article article = new Article();
+        article.setId(1L);
+        article.setTitle("文章1");
+        when(articleMapper.selectList(any(Wrapper.class))).thenReturn(List.of(article));
+
+        CollectQueryDto query = new CollectQueryDto();
+        query.setPageSize(2);
+        query.setFolderName("Java");
+
+        // Act
+        CursorPageVo<CollectVo> result = collectService.listCollects(100L, query);
+
+        // Assert
+        assertEquals(2, result.getRecords().size());
+        assertTrue(result.getHasMore());
+        assertEquals("文章1", result.getRecords().get(0).getArticleTitle());
+        assertNull(result.getRecords().get(1).getArticleTitle());
+        String[] cursor = CursorUtil.decode(result.getNextCursor(), 2);
+        assertEquals(NOW.minusMinutes(2).toString(), cursor[0]);
+        assertEquals("8", cursor[1]);
+
+        ArgumentCaptor<Wrapper<Collect>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        verify(collectMapper).selectList(captor.capture());
+        String sql = captor.getValue().getCustomSqlSegment();
+        assertTrue(sql.contains("ORDER BY create_time DESC,id DESC"));
+        assertTrue(sql.contains("LIMIT 3"));
+        verify(collectMapper, never()).selectCount(any());
+        verify(articleMapper, times(1)).selectList(any(Wrapper.class));
+    }
+
+    @Test
+    @DisplayName("我的收藏 - 游标格式错误")
+    void testListCollects_InvalidCursor() {
+        // Arrange
+        CollectQueryDto query = new CollectQueryDto();
+        query.setCursor(CursorUtil.encode("not-a-time", 1L));
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> collectService.listCollects(100L, query));
+    }
+
+    @Test
+    @DisplayName("收藏夹统计 - 命中缓存不查库，未命中查库并回填")
+    void testListFolders() {
+        // Arrange
+        List<CollectFolderVo> folders = List.of(new CollectFolderVo("default", 3L));
+        when(collectFolderCache.get(100L)).thenReturn(folders);
+        when(collectFolderCache.get(200L)).thenReturn(null);
+        when(collectMapper.selectFolderCounts(200L)).thenReturn(folders);
+
+        // Act
+        assertEquals(folders, collectService.listFolders(100L));
+        assertEquals(folders, collectService.listFolders(200L));
+
+        // Assert
+        verify(collectMapper, times(1)).selectFolderCounts(any());
+        verify(collectFolderCache).put(200L, folders);
+    }
+
+    private Collect collect(Long id, Long articleId, LocalDateTime createTime) {
+        Collect collect = new Collect();
+        collect.setId(id);
+        collect.setUserId(100L);
+        collect.setArticleId(articleId);
+        collect.setFolderName("Java");
+        collect.setCreateTime(createTime);
+        return collect;
+    }
+}
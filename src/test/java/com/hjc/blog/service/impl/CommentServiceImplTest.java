@@ -0,0 +1,344 @@
+package com.hjc.blog.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.hjc.blog.cache.ReferenceDataCache;
+import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.common.result.ResultCodeEnum;
+import com.hjc.blog.common.utils.CursorUtil;
+import com.hjc.blog.dto.CommentDto;
+import com.hjc.blog.dto.CommentQueryDto;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.entity.Comment;
+import com.hjc.blog.entity.User;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.CommentMapper;
+import com.hjc.blog.task.CommentModerationQueue;
+import com.hjc.blog.task.CommentModerator;
+import com.hjc.blog.vo.CommentSubmitVo;
+import com.hjc.blog.vo.CommentVo;
+import com.hjc.blog.vo.CursorPageVo;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CommentService 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("评论服务测试")
+class CommentServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private CommentMapper commentMapper;
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private CommentModerationQueue commentModerationQueue;
+
+    @InjectMocks
+    private CommentServiceImpl commentService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        // LambdaQueryWrapper 依赖实体的表信息缓存
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Comment.class);
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Article.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentService, "baseMapper", commentMapper);
+    }
+
+    @Test
+    @DisplayName("评论列表 - 回复预览、回复数和用户信息各一次批量查询")
+    @SuppressWarnings("unchecked")
+    void testListComments_BoundedQueries() {
+        // Arrange：两条一级评论，多取 1 条判断是否有下一页
+        List<Comment> topLevel = LongStream.rangeClosed(1, 3)
+                .mapToObj(i -> comment(i, null, 100L + i, NOW.minusMinutes(i)))
+                .toList();
+        when(commentMapper.selectList(any(Wrapper.class))).thenReturn(topLevel);
+        when(commentMapper.selectReplyPreviews(List.of(1L, 2L), 2)).thenReturn(List.of(
+                reply(11L, 1L, 201L, 101L, NOW.plusMinutes(1), null),
+                reply(12L, 1L, 202L, 201L, NOW.plusMinutes(2), null),
+                reply(21L, 2L, 203L, null, NOW.plusMinutes(3), null)
+        ));
+        when(commentMapper.selectReplyCounts(anyCollection())).thenReturn(List.of(
+                reply(null, 1L, null, null, null, 5L),
+                reply(null, 2L, null, null, null, 1L)
+        ));
+        when(referenceDataCache.getAuthors(anyCollection())).thenReturn(Map.of(
+                101L, user(101L, "u101", "一楼"),
+                201L, user(201L, "u201", null)
+        ));
+
+        CommentQueryDto query = new CommentQueryDto();
+        query.setPageSize(2);
+        query.setReplySize(2);
+
+        // Act
+        CursorPageVo<CommentVo> result = commentService.listComments(1L, query);
+
+        // Assert
+        assertTrue(result.getHasMore());
+        List<CommentVo> records = result.getRecords();
+        assertEquals(2, records.size());
+
+        CommentVo first = records.get(0);
+        assertEquals("一楼", first.getUserNickname());
+        assertEquals(5L, first.getReplyCount());
+        assertEquals(List.of(11L, 12L), first.getReplies().stream().map(CommentVo::getId).toList());
+        assertEquals("u201", first.getReplies().get(0).getUserNickname());
+        assertEquals("u201", first.getReplies().get(1).getReplyToNickname());
+        assertNull(first.getReplies().get(0).getReplyCount());
+        // 预览之后还有 3 条回复，游标指向最后一条预览
+        assertEquals(NOW.plusMinutes(2).toString(), CursorUtil.decode(first.getRepliesCursor(), 2)[0]);
+
+        CommentVo second = records.get(1);
+        assertEquals(1L, second.getReplyCount());
+        assertNull(second.getRepliesCursor());
+
+        // 查询次数固定：一级评论 1 次、回复预览 1 次、回复数 1 次、用户信息 1 次批量
+        verify(commentMapper, times(1)).selectList(any(Wrapper.class));
+        verify(commentMapper, times(1)).selectReplyPreviews(anyCollection(), anyInt());
+        verify(commentMapper, times(1)).selectReplyCounts(anyCollection());
+        verify(referenceDataCache, times(1)).getAuthors(anyCollection());
+        verify(commentMapper, never()).selectCount(any());
+
+        ArgumentCaptor<Wrapper<Comment>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        verify(commentMapper).selectList(captor.capture());
+        assertFalse(captor.getValue().getSqlSelect().contains("ip_address"));
+        assertTrue(captor.getValue().getCustomSqlSegment().contains("parent_id IS NULL"));
+    }
+
+    @Test
+    @DisplayName("评论列表 - 没有回复的评论回复数为 0")
+    @SuppressWarnings("unchecked")
+    void testListComments_NoReplies() {
+        // Arrange
+        when(commentMapper.selectList(any(Wrapper.class))).thenReturn(List.of(comment(1L, null, 101L, NOW)));
+        when(commentMapper.selectReplyPreviews(anyCollection(), eq(3))).thenReturn(List.of());
+
+        // Act
+        CursorPageVo<CommentVo> result = commentService.listComments(1L, new CommentQueryDto());
+
+        // Assert
+        CommentVo vo = result.getRecords().get(0);
+        assertEquals(0L, vo.getReplyCount());
+        assertTrue(vo.getReplies().isEmpty());
+        verify(commentMapper, never()).selectReplyCounts(anyCollection());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("回复列表 - 按时间顺序游标分页")
+    @SuppressWarnings("unchecked")
+    void testListReplies() {
+        // Arrange
+        when(commentMapper.selectList(any(Wrapper.class))).thenReturn(List.of(
+                comment(13L, 1L, 201L, NOW.plusMinutes(3)),
+                comment(14L, 1L, 202L, NOW.plusMinutes(4))
+        ));
+        CommentQueryDto query = new CommentQueryDto();
+        query.setPageSize(1);
+        query.setCursor(CursorUtil.encode(NOW.plusMinutes(2), 12L));
+
+        // Act
+        CursorPageVo<CommentVo> result = commentService.listReplies(1L, query);
+
+        // Assert
+        assertEquals(1, result.getRecords().size());
+        assertTrue(result.getHasMore());
+        assertEquals("13", CursorUtil.decode(result.getNextCursor(), 2)[1]);
+
+        ArgumentCaptor<Wrapper<Comment>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        verify(commentMapper).selectList(captor.capture());
+        String sql = captor.getValue().getCustomSqlSegment();
+        assertTrue(sql.contains("ORDER BY create_time ASC,id ASC"));
+        assertTrue(sql.contains("LIMIT 2"));
+        verify(commentMapper, never()).selectReplyPreviews(anyCollection(), anyInt());
+    }
+
+    @Test
+    @DisplayName("回复列表 - 游标格式错误")
+    void testListReplies_InvalidCursor() {
+        // Arrange
+        CommentQueryDto query = new CommentQueryDto();
+        query.setCursor("!!!");
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> commentService.listReplies(1L, query));
+    }
+
+    @Test
+    @DisplayName("发表评论 - 待审核状态落库后入队，不更新文章评论数")
+    @SuppressWarnings("unchecked")
+    void testSubmitComment() {
+        // Arrange
+        when(articleMapper.selectCount(any(Wrapper.class))).thenReturn(1L);
+        when(commentMapper.insert(any(Comment.class))).thenAnswer(invocation -> {
+            invocation.<Comment>getArgument(0).setId(99L);
+            return 1;
+        });
+        CommentDto request = new CommentDto();
+        request.setArticleId(1L);
+        request.setContent("  写得好  ");
+
+        // Act
+        CommentSubmitVo result = commentService.submitComment(request, 101L, "127.0.0.1", "JUnit");
+
+        // Assert
+        assertEquals(99L, result.getId());
+        assertEquals(CommentModerator.PENDING, result.getStatus());
+
+        ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+        verify(commentMapper).insert(captor.capture());
+        Comment saved = captor.getValue();
+        assertEquals(CommentModerator.PENDING, saved.getStatus());
+        assertEquals("写得好", saved.getContent());
+        assertNull(saved.getParentId());
+        verify(commentModerationQueue).submit(99L);
+        verify(articleMapper, never()).incrementCommentCount(any());
+    }
+
+    @Test
+    @DisplayName("发表评论 - 回复二级评论时挂到同一条一级评论下")
+    @SuppressWarnings("unchecked")
+    void testSubmitComment_ReplyToReply() {
+        // Arrange：评论 12 是一级评论 1 下的回复
+        when(articleMapper.selectCount(any(Wrapper.class))).thenReturn(1L);
+        Comment parent = comment(12L, 1L, 202L, NOW);
+        when(commentMapper.selectOne(any(Wrapper.class))).thenReturn(parent);
+        CommentDto request = new CommentDto();
+        request.setArticleId(1L);
+        request.setParentId(12L);
+        request.setContent("同意");
+
+        // Act
+        commentService.submitComment(request, 101L, null, null);
+
+        // Assert
+        ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+        verify(commentMapper).insert(captor.capture());
+        assertEquals(1L, captor.getValue().getParentId());
+        assertEquals(202L, captor.getValue().getReplyToUserId());
+    }
+
+    @Test
+    @DisplayName("发表评论 - 被回复用户与被回复评论的作者不一致")
+    @SuppressWarnings("unchecked")
+    void testSubmitComment_ReplyToUserMismatch() {
+        // Arrange：评论 12 的作者是 202，请求冒充回复 303
+        when(articleMapper.selectCount(any(Wrapper.class))).thenReturn(1L);
+        when(commentMapper.selectOne(any(Wrapper.class))).thenReturn(comment(12L, 1L, 202L, NOW));
+        CommentDto request = new CommentDto();
+        request.setArticleId(1L);
+        request.setParentId(12L);
+        request.setReplyToUserId(303L);
+        request.setContent("同意");
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> commentService.submitComment(request, 101L, null, null));
+        assertEquals(ResultCodeEnum.PARAM_ERROR.getCode(), exception.getCode());
+        verify(commentMapper, never()).insert(any(Comment.class));
+        verify(commentModerationQueue, never()).submit(any());
+    }
+
+    @Test
+    @DisplayName("发表评论 - 回复其他文章的评论")
+    @SuppressWarnings("unchecked")
+    void testSubmitComment_ParentOfOtherArticle() {
+        // Arrange
+        when(articleMapper.selectCount(any(Wrapper.class))).thenReturn(1L);
+        when(commentMapper.selectOne(any(Wrapper.class))).thenReturn(comment(12L, null, 202L, NOW));
+        CommentDto request = new CommentDto();
+        request.setArticleId(2L);
+        request.setParentId(12L);
+        request.setContent("同意");
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> commentService.submitComment(request, 101L, null, null));
+        verify(commentMapper, never()).insert(any(Comment.class));
+        verify(commentModerationQueue, never()).submit(any());
+    }
+
+    @Test
+    @DisplayName("人工审核 - 状态流转交给审核队列")
+    @SuppressWarnings("unchecked")
+    void testAuditComment() {
+        // Arrange
+        Comment pending = comment(99L, null, 101L, NOW);
+        pending.setStatus(CommentModerator.PENDING);
+        when(commentMapper.selectOne(any(Wrapper.class))).thenReturn(pending);
+        when(commentModerationQueue.transition(99L, 1L, CommentModerator.PENDING, CommentModerator.APPROVED))
+                .thenReturn(true);
+
+        // Act
+        commentService.auditComment(99L, CommentModerator.APPROVED);
+
+        // Assert
+        verify(commentModerationQueue).transition(99L, 1L, CommentModerator.PENDING, CommentModerator.APPROVED);
+        assertThrows(BusinessException.class, () -> commentService.auditComment(99L, 5));
+    }
+
+    private Comment comment(Long id, Long parentId, Long userId, LocalDateTime createTime) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setArticleId(1L);
+        comment.setParentId(parentId);
+        comment.setUserId(userId);
+        comment.setContent("评论" + id);
+        comment.setCreateTime(createTime);
+        return comment;
+    }
+
+    private CommentVo reply(Long id, Long parentId, Long userId, Long replyToUserId, LocalDateTime createTime, Long replyCount) {
+        CommentVo vo = new CommentVo();
+        vo.setId(id);
+        vo.setParentId(parentId);
+        vo.setUserId(userId);
+        vo.setReplyToUserId(replyToUserId);
+        vo.setCreateTime(createTime);
+        vo.setReplyCount(replyCount);
+        return vo;
+    }
+
+    private User user(Long id, String username, String nickname) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setNickname(nickname);
+        return user;
+    }
+}
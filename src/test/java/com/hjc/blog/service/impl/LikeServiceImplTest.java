@@ -0,0 +1,217 @@
+package com.hjc.blog.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.hjc.blog.common.exception.BusinessException;
+import com.hjc.blog.counter.LikeWriteBuffer;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.entity.Comment;
+import com.hjc.blog.mapper.ArticleMapper;
+import com.hjc.blog.mapper.CommentMapper;
+import com.hjc.blog.mapper.LikeRecordMapper;
+import com.hjc.blog.vo.LikeVo;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * LikeService 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("点赞服务测试")
+class LikeServiceImplTest {
+
+    private static final String ARTICLE_KEY = "blog:like:1:10";
+
+    @Mock
+    private LikeRecordMapper likeRecordMapper;
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @Mock
+    private CommentMapper commentMapper;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @InjectMocks
+    private LikeServiceImpl likeService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        // LambdaQueryWrapper 依赖实体的表信息缓存
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(new MybatisConfiguration(), "");
+        TableInfoHelper.initTableInfo(assistant, Article.class);
+        TableInfoHelper.initTableInfo(assistant, Comment.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(likeService, "stateTtl", Duration.ofDays(7));
+        lenient().when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("点赞 - 集合已加载时只操作 Redis 并异步记录")
+    void testLike_Loaded() {
+        // Arrange
+        when(stringRedisTemplate.hasKey(ARTICLE_KEY)).thenReturn(true);
+        when(setOperations.add(ARTICLE_KEY, "100")).thenReturn(1L);
+        when(setOperations.size(ARTICLE_KEY)).thenReturn(4L);
+
+        // Act
+        LikeVo result = likeService.like(100L, 10L, 1);
+
+        // Assert
+        assertTrue(result.getLiked());
+        assertEquals(3L, result.getLikeCount());
+        verify(likeWriteBuffer).record(100L, 10L, 1, true);
+        verifyNoInteractions(likeRecordMapper, articleMapper, commentMapper);
+    }
+
+    @Test
+    @DisplayName("点赞 - 重复点赞不重复记录")
+    void testLike_Duplicate() {
+        // Arrange
+        when(stringRedisTemplate.hasKey(ARTICLE_KEY)).thenReturn(true);
+        when(setOperations.add(ARTICLE_KEY, "100")).thenReturn(0L);
+        when(setOperations.size(ARTICLE_KEY)).thenReturn(2L);
+
+        // Act
+        LikeVo result = likeService.like(100L, 10L, 1);
+
+        // Assert
+        assertTrue(result.getLiked());
+        assertEquals(1L, result.getLikeCount());
+        verify(likeWriteBuffer, never()).record(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("点赞 - 集合未加载时校验目标并从数据库回填")
+    void testLike_LoadFromDatabase() {
+        // Arrange
+        when(stringRedisTemplate.hasKey(ARTICLE_KEY)).thenReturn(false);
+        when(articleMapper.selectCount(any())).thenReturn(1L);
+        when(likeRecordMapper.selectUserIdsByTarget(10L, 1)).thenReturn(List.of(7L, 8L));
+        when(setOperations.add(ARTICLE_KEY, "100")).thenReturn(1L);
+        when(setOperations.size(ARTICLE_KEY)).thenReturn(4L);
+
+        // Act
+        LikeVo result = likeService.like(100L, 10L, 1);
+
+        // Assert：占位成员、数据库中的点赞用户和过期时间由脚本原子写入
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(ARTICLE_KEY)),
+                eq("604800000"), eq("0"), eq("7"), eq("8"));
+        verify(setOperations, never()).add(ARTICLE_KEY, "0", "7", "8");
+        verify(stringRedisTemplate, times(1)).expire(ARTICLE_KEY, Duration.ofDays(7));
+        assertEquals(3L, result.getLikeCount());
+        verify(likeWriteBuffer).record(100L, 10L, 1, true);
+    }
+
+    @Test
+    @DisplayName("点赞 - 目标不存在")
+    void testLike_TargetNotExist() {
+        // Arrange
+        when(stringRedisTemplate.hasKey("blog:like:2:99")).thenReturn(false);
+        when(commentMapper.selectCount(any())).thenReturn(0L);
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> likeService.like(100L, 99L, 2));
+        verify(setOperations, never()).add(any(), any(String[].class));
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        verifyNoInteractions(likeWriteBuffer);
+    }
+
+    @Test
+    @DisplayName("点赞 - 目标类型错误")
+    void testLike_InvalidTargetType() {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> likeService.like(100L, 10L, 3));
+        verifyNoInteractions(stringRedisTemplate, likeWriteBuffer);
+    }
+
+    @Test
+    @DisplayName("取消点赞 - 只有实际移除时才记录")
+    void testUnlike() {
+        // Arrange
+        when(stringRedisTemplate.hasKey(ARTICLE_KEY)).thenReturn(true);
+        when(setOperations.remove(ARTICLE_KEY, "100")).thenReturn(1L, 0L);
+        when(setOperations.size(ARTICLE_KEY)).thenReturn(1L);
+
+        // Act
+        LikeVo first = likeService.unlike(100L, 10L, 1);
+        likeService.unlike(100L, 10L, 1);
+
+        // Assert
+        assertFalse(first.getLiked());
+        assertEquals(0L, first.getLikeCount());
+        verify(likeWriteBuffer, times(1)).record(eq(100L), eq(10L), eq(1), eq(false));
+    }
+
+    @Test
+    @DisplayName("批量查询点赞状态 - Redis 管道一次往返，未加载的目标合并查库")
+    void testListLikedTargetIds() {
+        // Arrange：每个目标依次返回 EXISTS、SISMEMBER 的结果
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(
+                true, true,
+                true, false,
+                false, false,
+                false, false
+        ));
+        when(likeRecordMapper.selectLikedTargetIds(100L, List.of(3L, 4L), 1)).thenReturn(List.of(4L));
+
+        // Act
+        Set<Long> liked = likeService.listLikedTargetIds(100L, List.of(1L, 2L, 3L, 4L), 1);
+
+        // Assert
+        assertEquals(Set.of(1L, 4L), liked);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(likeRecordMapper, times(1)).selectLikedTargetIds(any(), anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("批量查询点赞状态 - Redis 不可用时全部查库")
+    void testListLikedTargetIds_RedisDown() {
+        // Arrange
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(likeRecordMapper.selectLikedTargetIds(100L, List.of(1L, 2L), 1)).thenReturn(List.of(2L));
+
+        // Act
+        Set<Long> liked = likeService.listLikedTargetIds(100L, List.of(1L, 2L), 1);
+
+        // Assert
+        assertEquals(Set.of(2L), liked);
+    }
+}
@@ -0,0 +1,102 @@
+package com.hjc.blog.task;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.hjc.blog.cache.ArticleDetailCache;
+import com.hjc.blog.common.utils.MarkdownUtil;
+import com.hjc.blog.entity.Article;
+import com.hjc.blog.mapper.ArticleMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * ArticleRenderTask 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("文章批量渲染任务测试")
+class ArticleRenderTaskTest {
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @Mock
+    private ArticleDetailCache articleDetailCache;
+
+    private final MarkdownUtil markdownUtil = new MarkdownUtil();
+
+    private ArticleRenderTask task;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Article.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        task = new ArticleRenderTask(articleMapper, markdownUtil, articleDetailCache);
+        ReflectionTestUtils.setField(task, "chunkSize", 100);
+    }
+
+    @Test
+    @DisplayName("只渲染摘要不一致的文章，更新以读取时的摘要为条件")
+    @SuppressWarnings("unchecked")
+    void testRun_ConditionalOnHash() {
+        // Arrange：文章 1 已是最新渲染结果，文章 2 摘要过期
+        when(articleMapper.selectList(any(Wrapper.class))).thenReturn(List.of(
+                article(1L, "# 一", markdownUtil.hash("# 一")),
+                article(2L, "# 二", "stale")
+        ), List.of());
+        when(articleMapper.update(isNull(), any(Wrapper.class))).thenReturn(1);
+
+        // Act
+        int rendered = task.run();
+
+        // Assert
+        assertEquals(1, rendered);
+        ArgumentCaptor<Wrapper<Article>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        verify(articleMapper, times(1)).update(isNull(), captor.capture());
+        assertTrue(captor.getValue().getSqlSegment().contains("content_hash"));
+        verify(articleDetailCache).evict(2L);
+        verify(articleDetailCache, never()).evict(1L);
+    }
+
+    @Test
+    @DisplayName("渲染期间文章被编辑，更新 0 行时跳过且不清缓存")
+    @SuppressWarnings("unchecked")
+    void testRun_ConcurrentEditSkipped() {
+        // Arrange
+        when(articleMapper.selectList(any(Wrapper.class))).thenReturn(List.of(article(1L, "# 旧", null)), List.of());
+        when(articleMapper.update(isNull(), any(Wrapper.class))).thenReturn(0);
+
+        // Act
+        int rendered = task.run();
+
+        // Assert
+        assertEquals(0, rendered);
+        verifyNoInteractions(articleDetailCache);
+    }
+
+    private Article article(Long id, String content, String contentHash) {
+        Article article = new Article();
+        article.setId(id);
+        article.setContent(content);
+        article.setContentHash(contentHash);
+        return article;
+    }
+}
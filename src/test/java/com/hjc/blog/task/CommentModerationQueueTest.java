@@ -0,0 +1,242 @@
+package com.hjc.blog.task;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.hjc.blog.counter.ArticleCommentCounter;
+import com.hjc.blog.entity.Comment;
+import com.hjc.blog.mapper.CommentMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * CommentModerationQueue 单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("评论审核队列测试")
+class CommentModerationQueueTest {
+
+    @Mock
+    private CommentMapper commentMapper;
+
+    @Mock
+    private ArticleCommentCounter articleCommentCounter;
+
+    private CommentModerationQueue queue;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Comment.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        CommentModerator moderator = new CommentModerator();
+        ReflectionTestUtils.setField(moderator, "blockedWords", List.of("广告"));
+        ReflectionTestUtils.setField(moderator, "maxLinks", 1);
+
+        queue = new CommentModerationQueue(commentMapper, moderator, articleCommentCounter);
+        ReflectionTestUtils.setField(queue, "workers", 1);
+        ReflectionTestUtils.setField(queue, "queueCapacity", 1);
+        ReflectionTestUtils.setField(queue, "sweepBatchSize", 100);
+        queue.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("自动审核通过 - 状态从待审核变为通过并累加文章评论数")
+    @SuppressWarnings("unchecked")
+    void testProcess_Approved() {
+        // Arrange
+        when(commentMapper.selectOne(any(Wrapper.class))).thenReturn(pending(1L, "写得好"));
+        when(commentMapper.update(isNull(), any(Wrapper.class))).thenReturn(1);
+
+        // Act
+        queue.process(1L);
+
+        // Assert
+        verify(commentMapper).update(isNull(), any(Wrapper.class));
+        verify(articleCommentCounter).adjust(10L, 1);
+    }
+
+    @Test
+    @DisplayName("命中屏蔽词 - 拒绝且不计数")
+    @SuppressWarnings("unchecked")
+    void testProcess_Rejected() {
+        // Arrange
+        when(commentMapper.selectOne(any(Wrapper.class))).thenReturn(pending(1L, "加我看广告"));
+        when(commentMapper.update(isNull(), any(Wrapper.class))).thenReturn(1);
+
+        // Act
+        queue.process(1L);
+
+        // Assert
+        verify(commentMapper).update(isNull(), any(Wrapper.class));
+        verifyNoInteractions(articleCommentCounter);
+    }
+
+    @Test
+    @DisplayName("链接过多 - 转为待人工审核状态，补偿任务不再扫到，且不计数")
+    @SuppressWarnings("unchecked")
+    void testProcess_ManualReview() {
+        // Arrange
+        when(commentMapper.selectOne(any(Wrapper.class)))
+                .thenReturn(pending(1L, "见 https://a.example 和 http://b.example"));
+        when(commentMapper.update(isNull(), any(Wrapper.class))).thenReturn(1);
+
+        // Act
+        queue.process(1L);
+
+        // Assert
+        ArgumentCaptor<Wrapper<Comment>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        verify(commentMapper).update(isNull(), captor.capture());
+        assertTrue(captor.getValue().getSqlSet().contains("status"));
+        verifyNoInteractions(articleCommentCounter);
+    }
+
+    @Test
+    @DisplayName("状态已被并发修改 - 不重复计数")
+    @SuppressWarnings("unchecked")
+    void testTransition_Lost() {
+        // Arrange
+        when(commentMapper.update(isNull(), any(Wrapper.class))).thenReturn(0);
+
+        // Act & Assert
+        assertFalse(queue.transition(1L, 10L, CommentModerator.PENDING, CommentModerator.APPROVED));
+        verifyNoInteractions(articleCommentCounter);
+    }
+
+    @Test
+    @DisplayName("已通过改为拒绝 - 文章评论数减一")
+    @SuppressWarnings("unchecked")
+    void testTransition_ApprovedToRejected() {
+        // Arrange
+        when(commentMapper.update(isNull(), any(Wrapper.class))).thenReturn(1);
+
+        // Act & Assert
+        assertTrue(queue.transition(1L, 10L, CommentModerator.APPROVED, CommentModerator.REJECTED));
+        verify(articleCommentCounter).adjust(10L, -1);
+    }
+
+    @Test
+    @DisplayName("队列已满 - 拒绝入队，由补偿任务重新入队")
+    @SuppressWarnings("unchecked")
+    void testSubmit_QueueFull() throws InterruptedException {
+        // Arrange：唯一的工作线程阻塞在第一条评论上，队列容量为 1
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(commentMapper.selectOne(any(Wrapper.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        assertTrue(queue.submit(1L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(queue.submit(2L));
+
+        // Act
+        boolean accepted = queue.submit(3L);
+
+        // Assert
+        assertFalse(accepted);
+        assertTrue(queue.submit(2L), "已在队列中的评论不会重复入队");
+        assertEquals(1, queue.size());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("补偿任务 - 只在有积压时扫描待审核评论")
+    @SuppressWarnings("unchecked")
+    void testSweep() {
+        // Arrange：启动时视为有积压
+        Comment first = new Comment();
+        first.setId(5L);
+        when(commentMapper.selectList(any(Wrapper.class))).thenReturn(List.of(first), List.of());
+
+        // Act
+        queue.sweep();
+        queue.sweep();
+
+        // Assert：第二次没有积压，不再扫描
+        verify(commentMapper, times(2)).selectList(any(Wrapper.class));
+    }
+
+    @Test
+    @DisplayName("补偿任务 - 队列写满时记下位置，下一轮从中断处继续")
+    @SuppressWarnings("unchecked")
+    void testSweep_ResumeFromCursor() throws InterruptedException {
+        // Arrange：工作线程阻塞在评论 1 上，队列容量为 1，只能再放下评论 2
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(commentMapper.selectOne(any(Wrapper.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        assertTrue(queue.submit(1L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        when(commentMapper.selectList(any(Wrapper.class)))
+                .thenReturn(List.of(comment(2L), comment(3L)))
+                .thenReturn(List.of(comment(3L)), List.of());
+
+        // Act：第一轮评论 3 入队失败
+        queue.sweep();
+        release.countDown();
+        while (queue.size() > 0) {
+            Thread.sleep(10);
+        }
+        queue.sweep();
+
+        // Assert：第二轮从评论 2 之后开始扫描
+        ArgumentCaptor<Wrapper<Comment>> captor = ArgumentCaptor.forClass(Wrapper.class);
+        verify(commentMapper, times(3)).selectList(captor.capture());
+        assertTrue(params(captor.getAllValues().get(0)).containsValue(0L));
+        assertTrue(params(captor.getAllValues().get(1)).containsValue(2L));
+    }
+
+    private Map<String, Object> params(Wrapper<Comment> wrapper) {
+        // 条件参数在生成 SQL 片段时才写入
+        wrapper.getSqlSegment();
+        return ((AbstractWrapper<?, ?, ?>) wrapper).getParamNameValuePairs();
+    }
+
+    private Comment comment(Long id) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        return comment;
+    }
+
+    private Comment pending(Long id, String content) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setArticleId(10L);
+        comment.setContent(content);
+        comment.setStatus(CommentModerator.PENDING);
+        return comment;
+    }
+}